@@ -0,0 +1,22 @@
+package org.deutschebank.auction.biding.jmh;
+
+import org.deutschebank.auction.biding.BidingApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the biding service with its embedded H2 database from {@code PersistentContext} on a random port.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(final String... properties) {
+        return new SpringApplicationBuilder(BidingApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN", "logging.level.org.deutschebank=WARN")
+                .properties(properties)
+                .run();
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.deutschebank.auction.biding.jmh;
+
+import org.deutschebank.auction.biding.model.BidStatusResponse;
+import org.deutschebank.auction.biding.model.request.PlaceBidRequest;
+import org.deutschebank.auction.biding.repository.ProductRepository;
+import org.deutschebank.auction.biding.repository.record.ProductDetail;
+import org.deutschebank.auction.biding.service.BidingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code BidingService} bid path for an already validated user: {@code processBid} and {@code saveBid} for a bid
+ * that outbids the leader, and the in-memory rejection of a bid that cannot beat it.
+ * Run with {@code ./gradlew :biding:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BidPlacementBenchmark {
+
+    private static final String BIDER = "jmh-bider";
+
+    private ConfigurableApplicationContext context;
+    private BidingService bidingService;
+    private Long productIdentifier;
+    private long priceMinor;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("biding.ingestion.mode=sync");
+        bidingService = context.getBean(BidingService.class);
+        productIdentifier = context.getBean(ProductRepository.class)
+                .save(new ProductDetail(null, "jmh product", "jmh description", 100L, false, null, true, "jmh-author",
+                        null, null))
+                .getId();
+        priceMinor = 100L;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BidStatusResponse placeWinningBid() {
+        priceMinor += 100L;
+        return bidingService.placeBidAsValidatedUser(BIDER, productIdentifier,
+                PlaceBidRequest.builder().priceMinor(priceMinor).build());
+    }
+
+    @Benchmark
+    public BidStatusResponse rejectOutbidBid() {
+        return bidingService.placeBidAsValidatedUser(BIDER, productIdentifier, PlaceBidRequest.builder().priceMinor(100L).build());
+    }
+
+}
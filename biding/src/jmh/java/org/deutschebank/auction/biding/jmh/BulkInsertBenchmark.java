@@ -0,0 +1,100 @@
+package org.deutschebank.auction.biding.jmh;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.deutschebank.auction.biding.repository.BidingRepository;
+import org.deutschebank.auction.biding.repository.ProductRepository;
+import org.deutschebank.auction.biding.repository.record.Biding;
+import org.deutschebank.auction.biding.repository.record.ProductDetail;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts per second for bulk product and bid writes of {@link #ROWS_PER_TRANSACTION} rows per transaction, with a
+ * JDBC batch size of 1 (one round-trip per row, as with the former IDENTITY ids) and of {@code biding.jdbc.batch-size}.
+ * Run with {@code ./gradlew :biding:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkInsertBenchmark {
+
+    private static final int ROWS_PER_TRANSACTION = 500;
+
+    @Param({"1", "50"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private BidingRepository bidingRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private Long productIdentifier;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("biding.jdbc.batch-size=50");
+        productRepository = context.getBean(ProductRepository.class);
+        bidingRepository = context.getBean(BidingRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        productIdentifier = productRepository.save(newProduct()).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_TRANSACTION)
+    public void insertBids() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            final ProductDetail product = entityManager.getReference(ProductDetail.class, productIdentifier);
+            final List<Biding> bids = new ArrayList<>(ROWS_PER_TRANSACTION);
+            for (int row = 0; row < ROWS_PER_TRANSACTION; row++) {
+                bids.add(new Biding(null, new Date(), 100_000L + row, UUID.randomUUID().toString(), product));
+            }
+            bidingRepository.saveAll(bids);
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_TRANSACTION)
+    public void insertProducts() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            final List<ProductDetail> products = new ArrayList<>(ROWS_PER_TRANSACTION);
+            for (int row = 0; row < ROWS_PER_TRANSACTION; row++) {
+                products.add(newProduct());
+            }
+            productRepository.saveAll(products);
+        });
+    }
+
+    private ProductDetail newProduct() {
+        return new ProductDetail(null, "jmh product", "jmh description", 100_000L, false, null, true,
+                UUID.randomUUID().toString(), null, null);
+    }
+
+}
@@ -0,0 +1,95 @@
+package org.deutschebank.auction.biding.jmh;
+
+import org.deutschebank.auction.biding.model.Product;
+import org.deutschebank.auction.biding.model.Products;
+import org.deutschebank.auction.biding.repository.ProductRepository;
+import org.deutschebank.auction.biding.repository.record.ProductDetail;
+import org.deutschebank.auction.biding.service.ProductService;
+import org.deutschebank.auction.biding.service.event.ProductChangedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Product listing and mapping: the service listing (catalogue snapshot or projection query, see
+ * {@code catalogue}), the constructor projections alone, with and without descriptions, and loading entities, which
+ * is the cost the former {@code mapListToModel} path paid before mapping.
+ * Run with {@code ./gradlew :biding:jmh}, the gc profiler reports the allocation per listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductListingBenchmark {
+
+    private static final int PRODUCTS = 1_000;
+
+    @Param({"true", "false"})
+    public boolean catalogue;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private ProductRepository productRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("biding.catalogue.cache.enabled=" + catalogue);
+        productRepository = context.getBean(ProductRepository.class);
+        final List<ProductDetail> products = new ArrayList<>(PRODUCTS);
+        for (int product = 0; product < PRODUCTS; product++) {
+            products.add(new ProductDetail(null, "jmh product " + product, "jmh description " + product,
+                    100_000L, false, null, product % 2 == 0, "jmh-author-" + product, null, null));
+        }
+        for (final ProductDetail saved : productRepository.saveAll(products)) {
+            // the catalogue is written through from product events, saving through the repository bypasses them
+            context.publishEvent(ProductChangedEvent.builder()
+                    .product(new Product(saved.getId(), saved.getName(), saved.getDescription(), null,
+                            saved.getStartPriceMinor(), saved.getSold(), saved.getSoldPriceMinor(), saved.getActive(),
+                            saved.getAuthor(), saved.getEndsAt()))
+                    .build());
+        }
+        productService = context.getBean(ProductService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Products serviceListing() {
+        return productService.getProducts(true);
+    }
+
+    @Benchmark
+    public Products serviceActivePage() {
+        return productService.getProducts(false, 100, null);
+    }
+
+    @Benchmark
+    public List<Product> projectionListing() {
+        return productRepository.findProducts(0L, Pageable.unpaged());
+    }
+
+    @Benchmark
+    public List<Product> compactProjectionListing() {
+        return productRepository.findCompactProducts(0L, Pageable.unpaged());
+    }
+
+    @Benchmark
+    public List<ProductDetail> entityListing() {
+        return productRepository.findAll();
+    }
+
+}
@@ -0,0 +1,94 @@
+package org.deutschebank.auction.biding.jmh;
+
+import org.deutschebank.auction.biding.model.Bid;
+import org.deutschebank.auction.biding.repository.BidingRepository;
+import org.deutschebank.auction.biding.repository.ProductRepository;
+import org.deutschebank.auction.biding.repository.record.Biding;
+import org.deutschebank.auction.biding.repository.record.ProductDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository finders used on the bid path against {@value #PRODUCTS} products with {@value #BIDS_PER_PRODUCT}
+ * bids each. Run with {@code ./gradlew :biding:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RepositoryFinderBenchmark {
+
+    private static final int PRODUCTS = 100;
+    private static final int BIDS_PER_PRODUCT = 100;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private BidingRepository bidingRepository;
+    private Long productIdentifier;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        productRepository = context.getBean(ProductRepository.class);
+        bidingRepository = context.getBean(BidingRepository.class);
+        final List<ProductDetail> products = new ArrayList<>(PRODUCTS);
+        for (int product = 0; product < PRODUCTS; product++) {
+            products.add(new ProductDetail(null, "jmh product " + product, "jmh description " + product,
+                    100L, false, null, true, "jmh-author", null, null));
+        }
+        final List<ProductDetail> savedProducts = productRepository.saveAll(products);
+        final List<Biding> bids = new ArrayList<>(PRODUCTS * BIDS_PER_PRODUCT);
+        final long start = System.currentTimeMillis();
+        for (final ProductDetail product : savedProducts) {
+            for (int bid = 0; bid < BIDS_PER_PRODUCT; bid++) {
+                bids.add(new Biding(null, new Date(start + bid), 200L + bid, "jmh-bider-" + bid, product));
+            }
+        }
+        bidingRepository.saveAll(bids);
+        productIdentifier = savedProducts.get(PRODUCTS / 2).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductDetail findByIdAndActive() {
+        return productRepository.findByIdAndActive(productIdentifier, true);
+    }
+
+    @Benchmark
+    public boolean existsById() {
+        return productRepository.existsById(productIdentifier);
+    }
+
+    @Benchmark
+    public List<Bid> findTopBids() {
+        return bidingRepository.findBids(productIdentifier, PageRequest.ofSize(10));
+    }
+
+    @Benchmark
+    public Biding findFirstByProductDetail() {
+        return bidingRepository.findFirstByProductDetailOrderByBidPriceMinorDescTimestampAsc(
+                productRepository.getReferenceById(productIdentifier));
+    }
+
+    @Benchmark
+    public List<Biding> findLeadingBidsOfOpenAuctions() {
+        return bidingRepository.findLeadingBidsOfOpenAuctions();
+    }
+
+}
@@ -2,25 +2,43 @@ package org.deutschebank.auction.biding.client;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.client.cache.UserCache;
 import org.deutschebank.auction.biding.client.model.UserResponse;
 import org.deutschebank.auction.biding.client.model.response.ValidateUserResponse;
+import org.deutschebank.auction.biding.client.resilience.Bulkhead;
+import org.deutschebank.auction.biding.client.resilience.CircuitBreaker;
 import org.deutschebank.auction.biding.exception.BusinessException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Log4j2
 @Component
 @RequiredArgsConstructor
 public class UserClient {
 
     private final RestTemplate restTemplate;
+    private final UserCache userCache;
+    private final UserLookupBatcher userLookupBatcher;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    private final Map<String, CompletableFuture<UserResponse>> inFlightLookups = new ConcurrentHashMap<>();
 
     @Value("${user-service.url}")
     private String userServiceRestUrl;
 
+    @Value("${user-service.circuit-breaker.serve-stale}")
+    private boolean serveStale;
+
     public ValidateUserResponse validateUser(final String userToken) {
         final UserResponse user = getUser(userToken);
         if (user == null) {
@@ -48,6 +66,77 @@ public class UserClient {
     }
 
     public UserResponse getUser(final String userToken) {
+        final UserCache.Entry cached = userCache.get(userToken);
+        if (cached != null) {
+            return cached.getUser();
+        }
+        final CompletableFuture<UserResponse> lookup = new CompletableFuture<>();
+        final CompletableFuture<UserResponse> inFlightLookup = inFlightLookups.putIfAbsent(userToken, lookup);
+        if (inFlightLookup != null) {
+            return await(inFlightLookup);
+        }
+        try {
+            final UserResponse user = lookupUser(userToken);
+            lookup.complete(user);
+            return user;
+        } catch (final RuntimeException e) {
+            lookup.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLookups.remove(userToken, lookup);
+        }
+    }
+
+    private UserResponse lookupUser(final String userToken) {
+        try {
+            final UserResponse user = callUserService(userToken);
+            userCache.put(userToken, user);
+            return user;
+        } catch (final RuntimeException e) {
+            final UserResponse staleUser = serveStale ? userCache.getStale(userToken) : null;
+            if (staleUser == null) {
+                throw e;
+            }
+            log.warn("Users service unavailable, serving cached user: {}", userToken);
+            return staleUser;
+        }
+    }
+
+    private UserResponse callUserService(final String userToken) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new BusinessException("", "Users service is unavailable");
+        }
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.releasePermission();
+            log.warn("Too many concurrent users service calls, rejecting lookup of user: {}", userToken);
+            throw new BusinessException("", "Users service is busy");
+        }
+        try {
+            final UserResponse user = userLookupBatcher.isEnabled()
+                    ? await(userLookupBatcher.lookup(userToken))
+                    : fetchUser(userToken);
+            circuitBreaker.onSuccess();
+            return user;
+        } catch (final RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private UserResponse await(final CompletableFuture<UserResponse> lookup) {
+        try {
+            return lookup.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException("", e.getCause(), "Error while getting user details");
+        }
+    }
+
+    private UserResponse fetchUser(final String userToken) {
         try {
             String uri = UriComponentsBuilder.fromHttpUrl(userServiceRestUrl)
                     .pathSegment("user", userToken)
@@ -63,6 +152,9 @@ public class UserClient {
             } else {
                 throw new BusinessException(responseEntity.getStatusCode().toString(), "Error while getting user details");
             }
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.BadRequest e) {
+            log.warn("User: {} not found in users service", userToken);
+            return null;
         } catch (Exception e) {
             log.error("Error occurred while getting user details: {}", userToken, e);
             throw new BusinessException("", e.getCause());
@@ -0,0 +1,179 @@
+package org.deutschebank.auction.biding.client;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.client.model.UserResponse;
+import org.deutschebank.auction.biding.client.model.request.LookupUsersRequest;
+import org.deutschebank.auction.biding.client.model.response.LookupUsersResponse;
+import org.deutschebank.auction.biding.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects user lookups for different tokens and sends them to the users service as one
+ * {@code POST /users/lookup} once {@code batch.size} tokens are pending or {@code batch.window-ms} has passed.
+ * Batches are sent from virtual threads with {@code spring.threads.virtual.enabled}, which is checked against the
+ * runtime by {@link org.deutschebank.auction.biding.config.VirtualThreadsConfig} first.
+ */
+@Log4j2
+@Component
+@DependsOn("virtualThreadsConfig")
+public class UserLookupBatcher {
+
+    private final RestTemplate restTemplate;
+
+    private final String userServiceRestUrl;
+    @Getter
+    private final boolean enabled;
+    private final int batchSize;
+    private final long batchWindowMillis;
+    private final int concurrency;
+    private final boolean virtualThreads;
+
+    private final BlockingQueue<PendingLookup> pendingLookups = new LinkedBlockingQueue<>();
+
+    private Executor batchExecutor;
+    private Thread collector;
+    private volatile boolean running;
+
+    public UserLookupBatcher(final RestTemplate restTemplate,
+                             @Value("${user-service.url}") final String userServiceRestUrl,
+                             @Value("${user-service.lookup.batch.enabled}") final boolean enabled,
+                             @Value("${user-service.lookup.batch.size}") final int batchSize,
+                             @Value("${user-service.lookup.batch.window-ms}") final long batchWindowMillis,
+                             @Value("${user-service.lookup.batch.concurrency}") final int concurrency,
+                             @Value("${spring.threads.virtual.enabled}") final boolean virtualThreads) {
+        this.restTemplate = restTemplate;
+        this.userServiceRestUrl = userServiceRestUrl;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.batchWindowMillis = batchWindowMillis;
+        this.concurrency = concurrency;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        batchExecutor = virtualThreads ? virtualThreadExecutor() : Executors.newFixedThreadPool(concurrency);
+        collector = new Thread(this::collect, "user-lookup-batcher");
+        collector.setDaemon(true);
+        collector.start();
+        log.info("User lookup batching enabled with batch size: {} and window: {}ms", batchSize, batchWindowMillis);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        collector.interrupt();
+        if (batchExecutor instanceof ExecutorService) {
+            ((ExecutorService) batchExecutor).shutdown();
+        } else {
+            ((SimpleAsyncTaskExecutor) batchExecutor).close();
+        }
+        final BusinessException stopped = new BusinessException("", "User lookup batching stopped");
+        pendingLookups.forEach(lookup -> lookup.getResult().completeExceptionally(stopped));
+    }
+
+    private Executor virtualThreadExecutor() {
+        final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("user-lookup-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrency);
+        return executor;
+    }
+
+    public CompletableFuture<UserResponse> lookup(final String userToken) {
+        final PendingLookup lookup = new PendingLookup(userToken, new CompletableFuture<>());
+        pendingLookups.add(lookup);
+        return lookup.getResult();
+    }
+
+    private void collect() {
+        while (running) {
+            try {
+                final List<PendingLookup> batch = new ArrayList<>(batchSize);
+                batch.add(pendingLookups.take());
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWindowMillis);
+                while (batch.size() < batchSize) {
+                    final PendingLookup next = pendingLookups.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                batchExecutor.execute(() -> send(batch));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void send(final List<PendingLookup> batch) {
+        try {
+            final Map<String, UserResponse> users = fetchUsers(batch.stream().map(PendingLookup::getUserToken).distinct().toList());
+            batch.forEach(lookup -> lookup.getResult().complete(users.get(lookup.getUserToken())));
+        } catch (final Exception e) {
+            log.error("Error occurred while looking up batch of {} users", batch.size(), e);
+            final BusinessException failure = new BusinessException("", e, "Error while getting user details");
+            batch.forEach(lookup -> lookup.getResult().completeExceptionally(failure));
+        }
+    }
+
+    private Map<String, UserResponse> fetchUsers(final List<String> userTokens) {
+        final String uri = UriComponentsBuilder.fromHttpUrl(userServiceRestUrl)
+                .pathSegment("users", "lookup")
+                .toUriString();
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        final HttpEntity<LookupUsersRequest> entity = new HttpEntity<>(LookupUsersRequest.builder()
+                .userTokens(userTokens).build(), headers);
+        final ResponseEntity<LookupUsersResponse> responseEntity = restTemplate.exchange(uri, HttpMethod.POST, entity,
+                LookupUsersResponse.class);
+        final Map<String, UserResponse> users = new HashMap<>();
+        if (responseEntity.getBody() != null && responseEntity.getBody().getUsers() != null) {
+            responseEntity.getBody().getUsers().forEach(user -> users.put(user.getUserToken(), user));
+        }
+        return users;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PendingLookup {
+
+        private final String userToken;
+        private final CompletableFuture<UserResponse> result;
+
+    }
+
+}
@@ -0,0 +1,144 @@
+package org.deutschebank.auction.biding.client.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.client.model.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of users service lookups. Unknown users are cached as well (with a shorter TTL)
+ * so repeated bids with an invalid token do not reach the users service either. Expired valid users are kept
+ * for {@code stale-ttl-ms} so they can still be served while the users service is unavailable.
+ */
+@Log4j2
+@Component
+public class UserCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final long staleTtlMillis;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+
+    public UserCache(@Value("${user-service.cache.max-size}") final int maxSize,
+                     @Value("${user-service.cache.ttl-ms}") final long ttlMillis,
+                     @Value("${user-service.cache.negative-ttl-ms}") final long negativeTtlMillis,
+                     @Value("${user-service.cache.stale-ttl-ms}") final long staleTtlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.staleTtlMillis = staleTtlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                if (size() > UserCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return the cached lookup, or {@code null} on a miss. A hit for an unknown user returns an entry
+     * without a user.
+     */
+    public Entry get(final String userToken) {
+        final long now = System.currentTimeMillis();
+        synchronized (entries) {
+            final Entry entry = entries.get(userToken);
+            if (entry != null && entry.getExpiresAt() > now) {
+                hits.incrementAndGet();
+                return entry;
+            }
+            if (entry != null && entry.getStaleUntil() <= now) {
+                entries.remove(userToken);
+                evictions.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * @return a valid user whose entry expired less than {@code stale-ttl-ms} ago, or {@code null}.
+     */
+    public UserResponse getStale(final String userToken) {
+        final long now = System.currentTimeMillis();
+        synchronized (entries) {
+            final Entry entry = entries.get(userToken);
+            if (entry == null || entry.getUser() == null || entry.getStaleUntil() <= now) {
+                return null;
+            }
+            staleHits.incrementAndGet();
+            return entry.getUser();
+        }
+    }
+
+    public void put(final String userToken, final UserResponse user) {
+        if (maxSize <= 0) {
+            return;
+        }
+        final long ttl = user != null ? ttlMillis : negativeTtlMillis;
+        if (ttl <= 0) {
+            return;
+        }
+        final long expiresAt = System.currentTimeMillis() + ttl;
+        final Entry entry = new Entry(user, expiresAt, user != null ? expiresAt + staleTtlMillis : expiresAt);
+        synchronized (entries) {
+            entries.put(userToken, entry);
+        }
+    }
+
+    public void invalidate(final String userToken) {
+        synchronized (entries) {
+            entries.remove(userToken);
+        }
+        log.info("User: {} invalidated in user cache", userToken);
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        log.info("User cache cleared");
+    }
+
+    public UserCacheStats getStats() {
+        final int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return UserCacheStats.builder()
+                .size(size)
+                .hits(hits.get())
+                .misses(misses.get())
+                .evictions(evictions.get())
+                .staleHits(staleHits.get())
+                .build();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+
+        private final UserResponse user;
+        private final long expiresAt;
+        private final long staleUntil;
+
+    }
+
+}
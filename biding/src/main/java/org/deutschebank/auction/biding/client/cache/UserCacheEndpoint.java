@@ -0,0 +1,36 @@
+package org.deutschebank.auction.biding.client.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint {@code usercache} for the {@link UserCache}. It is not exposed over HTTP by default, it has to be
+ * added to {@code management.endpoints.web.exposure.include}, ideally on a separate {@code management.server.port}.
+ */
+@Component
+@Endpoint(id = "usercache")
+@RequiredArgsConstructor
+public class UserCacheEndpoint {
+
+    private final UserCache userCache;
+
+    @ReadOperation
+    public UserCacheStats getStats() {
+        return userCache.getStats();
+    }
+
+    @DeleteOperation
+    public void invalidate(@Selector final String userToken) {
+        userCache.invalidate(userToken);
+    }
+
+    @DeleteOperation
+    public void invalidateAll() {
+        userCache.invalidateAll();
+    }
+
+}
@@ -0,0 +1,16 @@
+package org.deutschebank.auction.biding.client.cache;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class UserCacheStats {
+
+    int size;
+    long hits;
+    long misses;
+    long evictions;
+    long staleHits;
+
+}
@@ -0,0 +1,14 @@
+package org.deutschebank.auction.biding.client.model.request;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class LookupUsersRequest {
+
+    List<String> userTokens;
+
+}
@@ -0,0 +1,15 @@
+package org.deutschebank.auction.biding.client.model.response;
+
+import lombok.Builder;
+import lombok.Value;
+import org.deutschebank.auction.biding.client.model.UserResponse;
+
+import java.util.List;
+
+@Value
+@Builder
+public class LookupUsersResponse {
+
+    List<UserResponse> users;
+
+}
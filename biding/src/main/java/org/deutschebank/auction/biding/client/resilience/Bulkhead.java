@@ -0,0 +1,59 @@
+package org.deutschebank.auction.biding.client.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the users service calls in flight to {@code max-concurrent-calls}, a caller waits at most
+ * {@code max-wait-ms} for a free slot so a slow users service cannot occupy every request thread.
+ */
+@Component
+public class Bulkhead {
+
+    private final int maxConcurrentCalls;
+    private final long maxWaitMillis;
+    private final Semaphore permits;
+    private final Counter rejectedCalls;
+
+    public Bulkhead(@Value("${user-service.bulkhead.max-concurrent-calls}") final int maxConcurrentCalls,
+                    @Value("${user-service.bulkhead.max-wait-ms}") final long maxWaitMillis,
+                    final MeterRegistry meterRegistry) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMillis = maxWaitMillis;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        Gauge.builder("user-service.bulkhead.calls", this, Bulkhead::getCallsInFlight)
+                .description("Users service calls in flight")
+                .register(meterRegistry);
+        this.rejectedCalls = Counter.builder("user-service.calls.rejected")
+                .description("Users service calls rejected without being sent")
+                .tag("reason", "bulkhead-full")
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire() {
+        try {
+            if (permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCalls.increment();
+        return false;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getCallsInFlight() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+}
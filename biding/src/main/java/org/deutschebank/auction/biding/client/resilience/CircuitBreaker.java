@@ -0,0 +1,150 @@
+package org.deutschebank.auction.biding.client.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Count based circuit breaker for users service calls. It opens when at least {@code failure-rate-percent} of the
+ * last {@code window-size} calls failed, rejects calls for {@code open-ms} and then lets {@code half-open-probes}
+ * calls through: the circuit closes when they all succeed and opens again on the first failure.
+ */
+@Log4j2
+@Component
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRatePercent;
+    private final long openMillis;
+    private final int halfOpenProbes;
+
+    private final boolean[] outcomes;
+    private int nextOutcome;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    private final Counter rejectedCalls;
+
+    public CircuitBreaker(@Value("${user-service.circuit-breaker.window-size}") final int windowSize,
+                          @Value("${user-service.circuit-breaker.minimum-calls}") final int minimumCalls,
+                          @Value("${user-service.circuit-breaker.failure-rate-percent}") final int failureRatePercent,
+                          @Value("${user-service.circuit-breaker.open-ms}") final long openMillis,
+                          @Value("${user-service.circuit-breaker.half-open-probes}") final int halfOpenProbes,
+                          final MeterRegistry meterRegistry) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRatePercent = failureRatePercent;
+        this.openMillis = openMillis;
+        this.halfOpenProbes = halfOpenProbes;
+        this.outcomes = new boolean[windowSize];
+        Gauge.builder("user-service.circuit-breaker.state", this, breaker -> breaker.getState().ordinal())
+                .description("Users service circuit state: 0 closed, 1 open, 2 half open")
+                .register(meterRegistry);
+        this.rejectedCalls = Counter.builder("user-service.calls.rejected")
+                .description("Users service calls rejected without being sent")
+                .tag("reason", "circuit-open")
+                .register(meterRegistry);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return whether a call may be sent, every permitted call has to be followed by
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #releasePermission()}.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMillis) {
+                rejectedCalls.increment();
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= halfOpenProbes) {
+                rejectedCalls.increment();
+                return false;
+            }
+            probesStarted++;
+        }
+        return true;
+    }
+
+    /**
+     * Gives back a permission for a call that was not sent, without recording an outcome.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && probesStarted > 0) {
+            probesStarted--;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++probesSucceeded >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= minimumCalls && failedCalls * 100 >= failureRatePercent * recordedCalls) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    private void record(final boolean failed) {
+        if (recordedCalls == windowSize) {
+            if (outcomes[nextOutcome]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextOutcome] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        nextOutcome = (nextOutcome + 1) % windowSize;
+    }
+
+    private void transitionTo(final State next) {
+        log.warn("Users service circuit changed from {} to {}", state, next);
+        state = next;
+        switch (next) {
+            case OPEN -> openedAt = System.currentTimeMillis();
+            case HALF_OPEN -> {
+                probesStarted = 0;
+                probesSucceeded = 0;
+            }
+            case CLOSED -> {
+                nextOutcome = 0;
+                recordedCalls = 0;
+                failedCalls = 0;
+            }
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package org.deutschebank.auction.biding.config;
 
 import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -14,6 +15,7 @@ import org.springframework.orm.jpa.vendor.Database;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 
 import javax.sql.DataSource;
+import java.util.Map;
 
 @Configuration
 @ComponentScan("org.deutschebank")//Model package
@@ -34,11 +36,18 @@ public class PersistentContext {
 
     @Bean
     public LocalContainerEntityManagerFactoryBean entityManagerFactory(
-            DataSource dataSource, JpaVendorAdapter jpaVendorAdapter) {
+            DataSource dataSource, JpaVendorAdapter jpaVendorAdapter,
+            @Value("${biding.jdbc.batch-size}") int jdbcBatchSize) {
         LocalContainerEntityManagerFactoryBean bean = new LocalContainerEntityManagerFactoryBean();
         bean.setDataSource(dataSource);
         bean.setJpaVendorAdapter(jpaVendorAdapter);
         bean.setPackagesToScan("org.deutschebank.auction.biding.repository");
+        bean.setJpaPropertyMap(Map.of(
+                "hibernate.jdbc.batch_size", String.valueOf(jdbcBatchSize),
+                "hibernate.order_inserts", "true",
+                "hibernate.order_updates", "true",
+                "hibernate.id.optimizer.pooled.preferred", "pooled"
+        ));
         return bean;
     }
 
@@ -0,0 +1,25 @@
+package org.deutschebank.auction.biding.config;
+
+import lombok.RequiredArgsConstructor;
+import org.deutschebank.auction.biding.controller.socket.BidSocketHandler;
+import org.deutschebank.auction.biding.controller.socket.UserTokenHandshakeInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final BidSocketHandler bidSocketHandler;
+    private final UserTokenHandshakeInterceptor userTokenHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(bidSocketHandler, "/bids/ws")
+                .addInterceptors(userTokenHandshakeInterceptor);
+    }
+
+}
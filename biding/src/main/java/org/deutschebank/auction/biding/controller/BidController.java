@@ -1,28 +1,65 @@
 package org.deutschebank.auction.biding.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.deutschebank.auction.biding.model.BidStatus;
 import org.deutschebank.auction.biding.model.BidStatusResponse;
 import org.deutschebank.auction.biding.model.BidWinner;
+import org.deutschebank.auction.biding.model.Bids;
+import org.deutschebank.auction.biding.model.Leaderboard;
 import org.deutschebank.auction.biding.model.request.PlaceBidRequest;
 import org.deutschebank.auction.biding.service.BidingService;
+import org.deutschebank.auction.biding.service.sequencing.ProductLanes;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
 public class BidController {
 
     private final BidingService bidingService;
+    private final ProductLanes productLanes;
 
     @PostMapping("/product/{productIdentifier}/bid")
-    public BidStatusResponse placeBid(@RequestHeader("X-User-Token") String userToken,
-                                      @PathVariable("productIdentifier") Long productIdentifier,
-                                      @RequestBody PlaceBidRequest request) {
-        return bidingService.placeBid(userToken, productIdentifier, request);
+    public ResponseEntity<BidStatusResponse> placeBid(@RequestHeader("X-User-Token") String userToken,
+                                                      @PathVariable("productIdentifier") Long productIdentifier,
+                                                      @RequestBody PlaceBidRequest request) {
+        BidStatusResponse response = bidingService.rejectIfOutbid(productIdentifier, request);
+        if (response == null) {
+            response = productLanes.execute(productIdentifier,
+                    () -> bidingService.placeBid(userToken, productIdentifier, request));
+        }
+        return ResponseEntity.status(response.getStatus() == BidStatus.ACCEPTED ? HttpStatus.ACCEPTED : HttpStatus.OK)
+                .body(response);
+    }
+
+    @GetMapping("/product/{productIdentifier}/bids")
+    public Bids getBids(@PathVariable("productIdentifier") Long productIdentifier,
+                        @RequestParam(value = "limit", required = false) Integer limit,
+                        @RequestParam(value = "after", required = false) String after) {
+        return bidingService.getBids(productIdentifier, limit, after);
+    }
+
+    @GetMapping("/product/{productIdentifier}/leaderboard")
+    public Leaderboard getLeaderboard(@PathVariable("productIdentifier") Long productIdentifier) {
+        return bidingService.getLeaderboard(productIdentifier);
+    }
+
+    @GetMapping(value = "/product/{productIdentifier}/bids/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBids(@PathVariable("productIdentifier") Long productIdentifier) {
+        return bidingService.streamBids(productIdentifier);
+    }
+
+    @GetMapping("/bid/{ticket}")
+    public BidStatusResponse getBidStatus(@PathVariable("ticket") String ticket) {
+        return bidingService.getBidStatus(ticket);
     }
 
     @PostMapping("/product/{productIdentifier}/sold")
     public BidWinner soldProduct(@RequestHeader("X-User-Token") String userToken,
                                  @PathVariable("productIdentifier") Long productIdentifier) {
-        return bidingService.soldProduct(userToken, productIdentifier);
+        return productLanes.execute(productIdentifier, () -> bidingService.soldProduct(userToken, productIdentifier));
     }
 }
@@ -6,17 +6,40 @@ import org.deutschebank.auction.biding.model.ProductStatusResponse;
 import org.deutschebank.auction.biding.model.Products;
 import org.deutschebank.auction.biding.model.request.ToggleProductStatusRequest;
 import org.deutschebank.auction.biding.service.ProductService;
+import org.deutschebank.auction.biding.service.sequencing.ProductLanes;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 public class ProductController {
 
+    private static final String CATALOGUE_VERSION_HEADER = "X-Catalogue-Version";
+
     private final ProductService productService;
+    private final ProductLanes productLanes;
 
     @GetMapping("/products")
-    public Products getProducts(@RequestParam(value = "allow_inactive", defaultValue = "true") boolean allowInactive) {
-        return productService.getProducts(allowInactive);
+    public ResponseEntity<Products> getProducts(@RequestParam(value = "allow_inactive", defaultValue = "true") boolean allowInactive,
+                                                @RequestParam(value = "limit", required = false) Integer limit,
+                                                @RequestParam(value = "after", required = false) Long after,
+                                                @RequestParam(value = "compact", defaultValue = "false") boolean compact) {
+        final Products products = productService.getProducts(allowInactive, limit, after, compact);
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (products.getCatalogueVersion() != null) {
+            response.header(CATALOGUE_VERSION_HEADER, String.valueOf(products.getCatalogueVersion()));
+        }
+        return response.body(products);
+    }
+
+    @GetMapping("/products/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(value = "allow_inactive", defaultValue = "true") boolean allowInactive) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> productService.exportProducts(allowInactive, outputStream));
     }
 
     @PostMapping("/product")
@@ -29,7 +52,8 @@ public class ProductController {
     public ProductStatusResponse toggleProductStatus(@RequestHeader("X-User-Token") String userToken,
                                                      @PathVariable("productIdentifier") Long productIdentifier,
                                                      @RequestBody ToggleProductStatusRequest request) {
-        return productService.toggleProductStatus(userToken, productIdentifier, request);
+        return productLanes.execute(productIdentifier,
+                () -> productService.toggleProductStatus(userToken, productIdentifier, request));
     }
 
 }
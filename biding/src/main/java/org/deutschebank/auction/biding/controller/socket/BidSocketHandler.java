@@ -0,0 +1,76 @@
+package org.deutschebank.auction.biding.controller.socket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.exception.BusinessException;
+import org.deutschebank.auction.biding.exception.InvalidRequestException;
+import org.deutschebank.auction.biding.model.BidStatus;
+import org.deutschebank.auction.biding.model.BidStatusResponse;
+import org.deutschebank.auction.biding.model.request.BidFrame;
+import org.deutschebank.auction.biding.model.request.PlaceBidRequest;
+import org.deutschebank.auction.biding.service.BidingService;
+import org.deutschebank.auction.biding.service.sequencing.ProductLanes;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+
+/**
+ * Accepts {@link BidFrame} messages for any product over one authenticated connection and answers every frame,
+ * in the order received, with a {@link BidStatusResponse} frame.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class BidSocketHandler extends TextWebSocketHandler {
+
+    private final BidingService bidingService;
+    private final ProductLanes productLanes;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        final String userToken = (String) session.getAttributes().get(UserTokenHandshakeInterceptor.USER_TOKEN_ATTRIBUTE);
+        final BidStatusResponse response = placeBid(userToken, message.getPayload());
+        session.sendMessage(new TextMessage(objectMapper.writeValueAsString(response)));
+    }
+
+    private BidStatusResponse placeBid(final String userToken, final String payload) {
+        final BidFrame frame;
+        try {
+            frame = objectMapper.readValue(payload, BidFrame.class);
+        } catch (final JsonProcessingException e) {
+            log.warn("Invalid bid frame from user: {}", userToken);
+            return rejected("Invalid bid frame");
+        }
+        if (frame.getProductIdentifier() == null || (frame.getPrice() == null && frame.getPriceMinor() == null)) {
+            return rejected("productIdentifier and price or priceMinor are required");
+        }
+        try {
+            return productLanes.execute(frame.getProductIdentifier(), () -> bidingService.placeBidAsValidatedUser(
+                    userToken, frame.getProductIdentifier(), PlaceBidRequest.builder()
+                            .price(frame.getPrice())
+                            .priceMinor(frame.getPriceMinor())
+                            .build()));
+        } catch (final InvalidRequestException e) {
+            return rejected(e.getMessage() != null ? e.getMessage() : e.getCode());
+        } catch (final BusinessException e) {
+            return rejected(e.getMessage() != null ? e.getMessage() : e.getCode());
+        } catch (final Exception e) {
+            log.error("Error occurred while placing bid for product: {}", frame.getProductIdentifier(), e);
+            return rejected("Bid could not be placed");
+        }
+    }
+
+    private BidStatusResponse rejected(final String message) {
+        return BidStatusResponse.builder()
+                .status(BidStatus.REJECTED)
+                .message(message)
+                .build();
+    }
+
+}
@@ -0,0 +1,60 @@
+package org.deutschebank.auction.biding.controller.socket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.exception.BusinessException;
+import org.deutschebank.auction.biding.exception.InvalidRequestException;
+import org.deutschebank.auction.biding.service.common.UserValidatorService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * Validates the {@code X-User-Token} once when the web socket is opened, the token is kept on the session. An
+ * unknown user is answered with {@code 401}, a user that cannot be validated because the users service is
+ * unavailable with {@code 503}.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class UserTokenHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String USER_TOKEN_HEADER = "X-User-Token";
+    static final String USER_TOKEN_ATTRIBUTE = "userToken";
+
+    private final UserValidatorService userValidatorService;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        final String userToken = request.getHeaders().getFirst(USER_TOKEN_HEADER);
+        if (userToken == null || userToken.isBlank()) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        try {
+            userValidatorService.validateUser(userToken);
+        } catch (final InvalidRequestException e) {
+            log.warn("Web socket rejected for user: {}", userToken);
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        } catch (final BusinessException e) {
+            log.warn("Web socket of user: {} rejected, user could not be validated", userToken, e);
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return false;
+        }
+        attributes.put(USER_TOKEN_ATTRIBUTE, userToken);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.deutschebank.auction.biding.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Value;
 
@@ -8,6 +9,11 @@ import lombok.Value;
 public class AuctionWinner {
 
     String winner;
-    Double winningBid;
+    Long winningBidMinor;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    public Double getWinningBid() {
+        return Prices.toMajor(winningBidMinor);
+    }
 
 }
@@ -0,0 +1,25 @@
+package org.deutschebank.auction.biding.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Date;
+
+@Value
+@Builder
+@AllArgsConstructor
+public class Bid {
+
+    Long id;
+    String bider;
+    Long bidPriceMinor;
+    Date timestamp;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    public Double getBidPrice() {
+        return Prices.toMajor(bidPriceMinor);
+    }
+
+}
@@ -1,5 +1,5 @@
 package org.deutschebank.auction.biding.model;
 
 public enum BidStatus {
-    PLACED, REJECTED
+    PLACED, REJECTED, ACCEPTED
 }
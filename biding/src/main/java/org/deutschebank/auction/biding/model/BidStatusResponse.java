@@ -9,5 +9,6 @@ public class BidStatusResponse {
 
     BidStatus status;
     String message;
+    String ticket;
 
 }
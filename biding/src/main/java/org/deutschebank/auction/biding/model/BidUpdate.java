@@ -0,0 +1,23 @@
+package org.deutschebank.auction.biding.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Date;
+
+@Value
+@Builder
+public class BidUpdate {
+
+    Long productIdentifier;
+    String bider;
+    long bidPriceMinor;
+    Date timestamp;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    public Double getBidPrice() {
+        return Prices.toMajor(bidPriceMinor);
+    }
+
+}
@@ -0,0 +1,15 @@
+package org.deutschebank.auction.biding.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class Bids {
+
+    List<Bid> bids;
+    String nextCursor;
+
+}
@@ -0,0 +1,16 @@
+package org.deutschebank.auction.biding.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class Leaderboard {
+
+    Long productIdentifier;
+    List<LeaderboardEntry> entries;
+    long bidCount;
+
+}
@@ -0,0 +1,44 @@
+package org.deutschebank.auction.biding.model;
+
+import org.deutschebank.auction.biding.exception.InvalidRequestException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Prices are held as {@code long} minor units (cents). Decimal prices are still accepted on requests and
+ * returned next to the minor units for existing clients.
+ */
+public final class Prices {
+
+    public static final int SCALE = 2;
+
+    private Prices() {
+    }
+
+    /**
+     * @throws InvalidRequestException if the price has fractions of a minor unit.
+     */
+    public static long toMinor(final double price) {
+        try {
+            return BigDecimal.valueOf(price).setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (final ArithmeticException e) {
+            throw new InvalidRequestException("", e, "Price should have at most " + SCALE + " decimal places");
+        }
+    }
+
+    /**
+     * @return the price in minor units, preferring {@code priceMinor} when both are given, or {@code null}.
+     */
+    public static Long toMinor(final Double price, final Long priceMinor) {
+        if (priceMinor != null) {
+            return priceMinor;
+        }
+        return price != null ? toMinor(price.doubleValue()) : null;
+    }
+
+    public static Double toMajor(final Long priceMinor) {
+        return priceMinor != null ? BigDecimal.valueOf(priceMinor, SCALE).doubleValue() : null;
+    }
+
+}
@@ -1,19 +1,38 @@
 package org.deutschebank.auction.biding.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Value;
 
+import java.util.Date;
+
 @Value
 @Builder
+@AllArgsConstructor
 public class Product {
 
     Long id;
     String name;
     String description;
     Double startPrice;
+    Long startPriceMinor;
     Boolean sold;
-    Double soldPrice;
+    Long soldPriceMinor;
     Boolean active;
     String author;
+    Date endsAt;
+
+    /**
+     * Decimal start price, given by clients that do not send {@code startPriceMinor}, otherwise derived from it.
+     */
+    public Double getStartPrice() {
+        return startPrice != null ? startPrice : Prices.toMajor(startPriceMinor);
+    }
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    public Double getSoldPrice() {
+        return Prices.toMajor(soldPriceMinor);
+    }
 
 }
@@ -1,5 +1,6 @@
 package org.deutschebank.auction.biding.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Value;
 
@@ -10,5 +11,12 @@ import java.util.List;
 public class Products {
 
     List<Product> products;
+    Long nextCursor;
+
+    /**
+     * Version of the catalogue snapshot the products were read from, {@code null} without the catalogue cache.
+     */
+    @JsonIgnore
+    Long catalogueVersion;
 
 }
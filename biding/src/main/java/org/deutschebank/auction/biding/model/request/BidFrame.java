@@ -0,0 +1,14 @@
+package org.deutschebank.auction.biding.model.request;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class BidFrame {
+
+    Long productIdentifier;
+    Double price;
+    Long priceMinor;
+
+}
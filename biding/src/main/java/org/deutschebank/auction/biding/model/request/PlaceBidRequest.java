@@ -8,5 +8,6 @@ import lombok.Value;
 public class PlaceBidRequest {
 
     Double price;
+    Long priceMinor;
 
 }
@@ -1,12 +1,53 @@
 package org.deutschebank.auction.biding.repository;
 
+import jakarta.persistence.QueryHint;
+import org.deutschebank.auction.biding.model.Bid;
 import org.deutschebank.auction.biding.repository.record.Biding;
 import org.deutschebank.auction.biding.repository.record.ProductDetail;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository
 public interface BidingRepository extends JpaRepository<Biding, Long> {
 
-    Biding findFirstByProductDetailOrderByBidPriceDescTimestampAsc(ProductDetail productDetail);
+    Biding findFirstByProductDetailOrderByBidPriceMinorDescTimestampAsc(ProductDetail productDetail);
+
+    long countByProductDetailId(Long productId);
+
+    @Query("select b from Biding b where b.productDetail.sold = false and not exists (" +
+            "select o from Biding o where o.productDetail = b.productDetail and (o.bidPriceMinor > b.bidPriceMinor" +
+            " or (o.bidPriceMinor = b.bidPriceMinor and o.timestamp < b.timestamp)" +
+            " or (o.bidPriceMinor = b.bidPriceMinor and o.timestamp = b.timestamp and o.id < b.id)))")
+    List<Biding> findLeadingBidsOfOpenAuctions();
+
+    /**
+     * Product id, bider, price and time of every bid of an unsold product, ordered by product and rank.
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select b.productDetail.id, b.bider, b.bidPriceMinor, b.timestamp from Biding b where b.productDetail.sold = false" +
+            " order by b.productDetail.id, b.bidPriceMinor desc, b.timestamp asc, b.id asc")
+    Stream<Object[]> streamBidsOfOpenAuctions();
+
+    @Query("select new org.deutschebank.auction.biding.model.Bid(b.id, b.bider, b.bidPriceMinor, b.timestamp) from Biding b" +
+            " where b.productDetail.id = :productId order by b.bidPriceMinor desc, b.timestamp asc, b.id asc")
+    List<Bid> findBids(@Param("productId") Long productId, Pageable pageable);
+
+    @Query("select new org.deutschebank.auction.biding.model.Bid(b.id, b.bider, b.bidPriceMinor, b.timestamp) from Biding b" +
+            " where b.productDetail.id = :productId and (b.bidPriceMinor < :priceMinor" +
+            " or (b.bidPriceMinor = :priceMinor and b.timestamp > :timestamp)" +
+            " or (b.bidPriceMinor = :priceMinor and b.timestamp = :timestamp and b.id > :id))" +
+            " order by b.bidPriceMinor desc, b.timestamp asc, b.id asc")
+    List<Bid> findBidsAfter(@Param("productId") Long productId, @Param("priceMinor") Long priceMinor,
+                            @Param("timestamp") Date timestamp, @Param("id") Long id, Pageable pageable);
 }
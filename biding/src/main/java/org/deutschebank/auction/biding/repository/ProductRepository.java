@@ -1,15 +1,52 @@
 package org.deutschebank.auction.biding.repository;
 
+import jakarta.persistence.QueryHint;
+import org.deutschebank.auction.biding.model.Product;
 import org.deutschebank.auction.biding.repository.record.ProductDetail;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ProductRepository extends JpaRepository<ProductDetail, Long> {
 
     List<ProductDetail> findByActive(boolean active);
     ProductDetail findByIdAndActive(Long id, boolean active);
+    List<ProductDetail> findByEndsAtNotNullAndSoldFalse();
+
+    @Query("select new org.deutschebank.auction.biding.model.Product(p.id, p.name, p.description," +
+            " cast(null as Double), p.startPriceMinor, p.sold, p.soldPriceMinor, p.active, p.author, p.endsAt)" +
+            " from ProductDetail p where p.id > :after order by p.id")
+    List<Product> findProducts(@Param("after") long after, Pageable pageable);
+
+    @Query("select new org.deutschebank.auction.biding.model.Product(p.id, p.name, p.description," +
+            " cast(null as Double), p.startPriceMinor, p.sold, p.soldPriceMinor, p.active, p.author, p.endsAt)" +
+            " from ProductDetail p where p.active = true and p.id > :after order by p.id")
+    List<Product> findActiveProducts(@Param("after") long after, Pageable pageable);
+
+    @Query("select new org.deutschebank.auction.biding.model.Product(p.id, p.name, cast(null as String)," +
+            " cast(null as Double), p.startPriceMinor, p.sold, p.soldPriceMinor, p.active, p.author, p.endsAt)" +
+            " from ProductDetail p where p.id > :after order by p.id")
+    List<Product> findCompactProducts(@Param("after") long after, Pageable pageable);
+
+    @Query("select new org.deutschebank.auction.biding.model.Product(p.id, p.name, cast(null as String)," +
+            " cast(null as Double), p.startPriceMinor, p.sold, p.soldPriceMinor, p.active, p.author, p.endsAt)" +
+            " from ProductDetail p where p.active = true and p.id > :after order by p.id")
+    List<Product> findActiveCompactProducts(@Param("after") long after, Pageable pageable);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<ProductDetail> streamAllByOrderByIdAsc();
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<ProductDetail> streamByActiveOrderByIdAsc(boolean active);
 
 }
@@ -10,7 +10,7 @@ import java.util.Date;
 
 @Entity
 @Table(name = "biding_list", indexes = {
-        @Index(name = "productDetailIndex", columnList = "product_detail_id, bid_price DESC, timestamp")
+        @Index(name = "productDetailIndex", columnList = "product_detail_id, bid_price_minor DESC, timestamp")
 })
 @Getter
 @Setter
@@ -19,15 +19,16 @@ import java.util.Date;
 public class Biding {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bidingSequence")
+    @SequenceGenerator(name = "bidingSequence", sequenceName = "biding_list_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, updatable = false)
     @Temporal(TemporalType.TIMESTAMP)
     private Date timestamp;
 
-    @Column(nullable = false, name = "bid_price")
-    private Double bidPrice;
+    @Column(nullable = false, name = "bid_price_minor")
+    private long bidPriceMinor;
 
     @Column(nullable = false, updatable = false)
     private String bider;
@@ -5,22 +5,38 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.Date;
+
 @Entity
-@Table(name = "product_detail")
+@Table(name = "product_detail", indexes = {
+        @Index(name = "productActiveIdIndex", columnList = "active, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductDetail {
 
+    /**
+     * Ids taken from {@code product_detail_seq} per call, by the pooled optimizer.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productDetailSequence")
+    @SequenceGenerator(name = "productDetailSequence", sequenceName = "product_detail_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -28,14 +44,14 @@ public class ProductDetail {
 
     private String description;
 
-    @Column(name = "start_price", nullable = false)
-    private Double startPrice;
+    @Column(name = "start_price_minor", nullable = false)
+    private Long startPriceMinor;
 
     @Column(nullable = false)
     private Boolean sold;
 
-    @Column(name = "sold_price")
-    private Double soldPrice;
+    @Column(name = "sold_price_minor")
+    private Long soldPriceMinor;
 
     @Column(nullable = false)
     private Boolean active;
@@ -43,4 +59,11 @@ public class ProductDetail {
     @Column(nullable = false)
     private String author;
 
+    @Column(name = "ends_at")
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date endsAt;
+
+    @Version
+    private Long version;
+
 }
@@ -4,20 +4,44 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.deutschebank.auction.biding.exception.InvalidRequestException;
+import org.deutschebank.auction.biding.exception.ResourceNotFoundException;
 import org.deutschebank.auction.biding.model.AuctionWinner;
+import org.deutschebank.auction.biding.model.Bid;
 import org.deutschebank.auction.biding.model.BidStatus;
 import org.deutschebank.auction.biding.model.BidStatusResponse;
 import org.deutschebank.auction.biding.model.BidWinner;
+import org.deutschebank.auction.biding.model.Bids;
+import org.deutschebank.auction.biding.model.Leaderboard;
+import org.deutschebank.auction.biding.model.LeaderboardEntry;
+import org.deutschebank.auction.biding.model.Prices;
+import org.deutschebank.auction.biding.model.Product;
 import org.deutschebank.auction.biding.model.request.PlaceBidRequest;
-import org.deutschebank.auction.biding.repository.BidingRepository;
 import org.deutschebank.auction.biding.repository.ProductRepository;
-import org.deutschebank.auction.biding.repository.record.Biding;
 import org.deutschebank.auction.biding.repository.record.ProductDetail;
+import org.deutschebank.auction.biding.service.book.LeadingBid;
+import org.deutschebank.auction.biding.service.book.OrderBook;
 import org.deutschebank.auction.biding.service.common.UserValidatorService;
+import org.deutschebank.auction.biding.service.event.AuctionClosedEvent;
+import org.deutschebank.auction.biding.service.event.BidPlacedEvent;
+import org.deutschebank.auction.biding.service.event.ProductChangedEvent;
+import org.deutschebank.auction.biding.service.feed.BidFeed;
+import org.deutschebank.auction.biding.service.ingestion.BidIngestion;
+import org.deutschebank.auction.biding.service.journal.BidJournal;
+import org.deutschebank.auction.biding.service.leaderboard.Leaderboards;
+import org.deutschebank.auction.biding.service.metrics.BidMetrics;
+import org.deutschebank.auction.biding.service.schedule.AuctionDeadlines;
+import org.deutschebank.auction.biding.service.store.BidStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
 
 @Log4j2
 @Service
@@ -28,21 +52,78 @@ public class BidingService {
     private final UserValidatorService userValidatorService;
 
     private final ProductRepository productRepository;
-    private final BidingRepository bidingRepository;
+    private final BidStore bidStore;
+
+    private final OrderBook orderBook;
+    private final BidIngestion bidIngestion;
+    private final BidJournal bidJournal;
+    private final BidFeed bidFeed;
+    private final Leaderboards leaderboards;
+    private final AuctionDeadlines auctionDeadlines;
+    private final BidMetrics bidMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${biding.bids.default-page-size}")
+    private int defaultPageSize;
+
+    @Value("${biding.bids.max-page-size}")
+    private int maxPageSize;
 
     @Transactional
     public BidStatusResponse placeBid(final String userToken, final Long productIdentifier,
                                       final PlaceBidRequest request) {
+        return bidMetrics.time(BidMetrics.PLACE_BID, "total",
+                () -> placeBid(userToken, productIdentifier, request, true));
+    }
+
+    /**
+     * Places a bid for a user that is already validated, e.g. once per web socket connection.
+     */
+    @Transactional
+    public BidStatusResponse placeBidAsValidatedUser(final String userToken, final Long productIdentifier,
+                                                     final PlaceBidRequest request) {
+        return bidMetrics.time(BidMetrics.PLACE_BID, "total",
+                () -> placeBid(userToken, productIdentifier, request, false));
+    }
+
+    private BidStatusResponse placeBid(final String userToken, final Long productIdentifier,
+                                       final PlaceBidRequest request, final boolean validateUser) {
+        final BidStatusResponse response = evaluateBid(userToken, productIdentifier, request, validateUser);
+        bidMetrics.outcome(response.getStatus());
+        return response;
+    }
+
+    private BidStatusResponse evaluateBid(final String userToken, final Long productIdentifier,
+                                          final PlaceBidRequest request, final boolean validateUser) {
         try {
-            final ProductDetail productRecord = productRepository.findByIdAndActive(productIdentifier, true);
+            if (auctionDeadlines.isExpired(productIdentifier, System.currentTimeMillis())) {
+                log.info("Auction of product: {} has ended", productIdentifier);
+                return rejected("auction-ended", "Auction has ended");
+            }
+            final ProductDetail productRecord = bidMetrics.time(BidMetrics.PLACE_BID, "find-product",
+                    () -> productRepository.findByIdAndActive(productIdentifier, true));
+            if (productRecord == null) {
+                log.warn("Active product: {} not found", productIdentifier);
+                bidMetrics.rejected("product-not-found");
+                throw new InvalidRequestException("", "Product not found for biding");
+            }
             if (productRecord.getAuthor().equals(userToken)) {
                 log.warn("User: {} is the author of this product: {}", userToken, productIdentifier);
+                bidMetrics.rejected("author");
                 throw new InvalidRequestException("Author is not allowed to place the bid");
             }
-            userValidatorService.validateUser(userToken);
-            return processBid(request, userToken, productRecord);
+            final long priceMinor = bidPriceMinor(request);
+            if (!orderBook.canBeat(productIdentifier, priceMinor)) {
+                log.info("Bid: {} cannot beat the leading bid of product: {}", priceMinor, productIdentifier);
+                return rejected("below-leading-bid", "Bid should be greater than the current highest bid");
+            }
+            if (validateUser) {
+                validateBider(userToken);
+            }
+            return processBid(priceMinor, userToken, productRecord);
         } catch (final EntityNotFoundException e) {
             log.warn("product: {} not found", productIdentifier, e);
+            bidMetrics.rejected("product-not-found");
             throw new InvalidRequestException("", e.getCause(), "Product not found for biding");
         } catch (final Exception e) {
             log.error("Error occurred while placing bid for product: {}", productIdentifier, e);
@@ -50,24 +131,166 @@ public class BidingService {
         }
     }
 
+    public BidStatusResponse getBidStatus(final String ticket) {
+        final BidStatusResponse status = bidIngestion.getStatus(ticket);
+        if (status == null) {
+            log.warn("Bid ticket: {} not found", ticket);
+            throw new ResourceNotFoundException("", "Bid ticket not found");
+        }
+        return status;
+    }
+
+    /**
+     * Bids of a product from the highest to the lowest price, equal prices in the order they were placed.
+     * {@code after} is the {@code nextCursor} of the previous page.
+     */
+    public Bids getBids(final Long productIdentifier, final Integer limit, final String after) {
+        final int pageSize = limit != null ? limit : defaultPageSize;
+        if (pageSize <= 0 || pageSize > maxPageSize) {
+            log.warn("Invalid page size: {} requested", limit);
+            throw new InvalidRequestException("", "Limit should be between 1 and " + maxPageSize);
+        }
+        if (!productRepository.existsById(productIdentifier)) {
+            log.warn("product: {} not found", productIdentifier);
+            throw new ResourceNotFoundException("", "Product not found");
+        }
+        final List<Bid> bids = bidStore.findBids(productIdentifier, after != null ? decodeCursor(after) : null,
+                pageSize + 1);
+        if (bids.size() <= pageSize) {
+            return Bids.builder().bids(bids).build();
+        }
+        final List<Bid> pageBids = List.copyOf(bids.subList(0, pageSize));
+        return Bids.builder()
+                .bids(pageBids)
+                .nextCursor(encodeCursor(pageBids.get(pageSize - 1)))
+                .build();
+    }
+
+    /**
+     * Top bids of a product, served from memory while the auction is open, and the number of bids placed.
+     */
+    public Leaderboard getLeaderboard(final Long productIdentifier) {
+        List<LeaderboardEntry> entries = leaderboards.getEntries(productIdentifier);
+        if (entries == null) {
+            if (!productRepository.existsById(productIdentifier)) {
+                log.warn("product: {} not found", productIdentifier);
+                throw new ResourceNotFoundException("", "Product not found");
+            }
+            final List<Bid> bids = bidStore.findBids(productIdentifier, null, leaderboards.getSize());
+            entries = new ArrayList<>(bids.size());
+            for (final Bid bid : bids) {
+                entries.add(LeaderboardEntry.builder()
+                        .rank(entries.size() + 1)
+                        .bider(bid.getBider())
+                        .bidPriceMinor(bid.getBidPriceMinor())
+                        .timestamp(bid.getTimestamp())
+                        .build());
+            }
+        }
+        return Leaderboard.builder()
+                .productIdentifier(productIdentifier)
+                .entries(entries)
+                .bidCount(bidStore.countBids(productIdentifier))
+                .build();
+    }
+
+    public SseEmitter streamBids(final Long productIdentifier) {
+        if (!productRepository.existsById(productIdentifier)) {
+            log.warn("product: {} not found", productIdentifier);
+            throw new ResourceNotFoundException("", "Product not found");
+        }
+        return bidFeed.subscribe(productIdentifier, () -> findAuctionResult(productIdentifier));
+    }
+
+    /**
+     * @return the winner of a sold product, {@code null} while its auction is open.
+     */
+    private BidWinner findAuctionResult(final Long productIdentifier) {
+        final ProductDetail productRecord = productRepository.findById(productIdentifier).orElse(null);
+        if (productRecord == null || !Boolean.TRUE.equals(productRecord.getSold())) {
+            return null;
+        }
+        final List<Bid> winningBids = bidStore.findBids(productIdentifier, null, 1);
+        return bidWinner(productIdentifier, winningBids.isEmpty() ? null : winningBids.get(0).getBider(),
+                productRecord.getSoldPriceMinor());
+    }
+
     @Transactional
     public BidWinner soldProduct(final String userToken, final Long productIdentifier) {
-        final ProductDetail productRecord = productRepository.getReferenceById(productIdentifier);
+        return bidMetrics.time(BidMetrics.SOLD_PRODUCT, "total", () -> closeAuction(userToken, productIdentifier));
+    }
+
+    /**
+     * Ends the auction of a product whose {@code endsAt} has passed, on behalf of its author.
+     *
+     * @return the winner, or {@code null} if the product is already sold, inactive or its auction has not ended yet.
+     */
+    @Transactional
+    public BidWinner closeExpiredAuction(final Long productIdentifier) {
+        return bidMetrics.time(BidMetrics.SOLD_PRODUCT, "total", () -> {
+            final ProductDetail productRecord = findProductToClose(productIdentifier);
+            if (Boolean.TRUE.equals(productRecord.getSold()) || !Boolean.TRUE.equals(productRecord.getActive())
+                    || productRecord.getEndsAt() == null || productRecord.getEndsAt().after(new Date())) {
+                log.info("Auction of product: {} is not due to close", productIdentifier);
+                return null;
+            }
+            return closeAuction(productRecord);
+        });
+    }
+
+    private BidWinner closeAuction(final String userToken, final Long productIdentifier) {
+        final ProductDetail productRecord = findProductToClose(productIdentifier);
         if (!productRecord.getAuthor().equals(userToken)) {
             log.warn("Only product author can end auction for a product");
             throw new InvalidRequestException("Auction can only be ended by product author");
         }
-        final Biding highestBid = bidingRepository.findFirstByProductDetailOrderByBidPriceDescTimestampAsc(productRecord);
+        return closeAuction(productRecord);
+    }
+
+    private ProductDetail findProductToClose(final Long productIdentifier) {
+        return bidMetrics.time(BidMetrics.SOLD_PRODUCT, "find-product",
+                () -> productRepository.findById(productIdentifier).orElseThrow(EntityNotFoundException::new));
+    }
+
+    private BidWinner closeAuction(final ProductDetail productRecord) {
+        final Long productIdentifier = productRecord.getId();
+        bidMetrics.time(BidMetrics.SOLD_PRODUCT, "flush-bids", () -> bidIngestion.flush(productIdentifier));
+        final LeadingBid highestBid = bidMetrics.time(BidMetrics.SOLD_PRODUCT, "close-bids",
+                () -> bidStore.close(productIdentifier));
         productRecord.setSold(true);
         productRecord.setActive(false);
-        productRecord.setSoldPrice(highestBid != null ? highestBid.getBidPrice() : null);
-        productRepository.save(productRecord);
+        productRecord.setSoldPriceMinor(highestBid != null ? highestBid.getBidPriceMinor() : null);
+        bidMetrics.time(BidMetrics.SOLD_PRODUCT, "save-product", () -> productRepository.saveAndFlush(productRecord));
+        eventPublisher.publishEvent(ProductChangedEvent.builder()
+                .product(Product.builder()
+                        .id(productIdentifier)
+                        .name(productRecord.getName())
+                        .description(productRecord.getDescription())
+                        .active(productRecord.getActive())
+                        .startPriceMinor(productRecord.getStartPriceMinor())
+                        .sold(productRecord.getSold())
+                        .soldPriceMinor(productRecord.getSoldPriceMinor())
+                        .author(productRecord.getAuthor())
+                        .endsAt(productRecord.getEndsAt())
+                        .build())
+                .version(productRecord.getVersion())
+                .build());
 
+        final BidWinner bidWinner = bidWinner(productIdentifier, highestBid != null ? highestBid.getBider() : null,
+                highestBid != null ? highestBid.getBidPriceMinor() : null);
+        eventPublisher.publishEvent(AuctionClosedEvent.builder()
+                .productIdentifier(productIdentifier)
+                .bidWinner(bidWinner)
+                .build());
+        return bidWinner;
+    }
+
+    private BidWinner bidWinner(final Long productIdentifier, final String winner, final Long winningBidMinor) {
         final AuctionWinner.AuctionWinnerBuilder auctionWinnerBuilder = AuctionWinner.builder();
-        if (highestBid != null) {
+        if (winner != null) {
             auctionWinnerBuilder
-                    .winner(highestBid.getBider())
-                    .winningBid(highestBid.getBidPrice());
+                    .winner(winner)
+                    .winningBidMinor(winningBidMinor);
         }
         return BidWinner.builder()
                 .productIdentifier(productIdentifier)
@@ -75,41 +298,105 @@ public class BidingService {
                 .build();
     }
 
-    private BidStatusResponse processBid(final PlaceBidRequest request, final String userToken,
-                                         final ProductDetail productRecord) {
-        if (request.getPrice() <= 0) {
-            return BidStatusResponse.builder()
-                    .status(BidStatus.REJECTED)
-                    .message("Bid amount should be greater than 0")
-                    .build();
+    /**
+     * Rejects a bid that cannot beat the leading bid of its product from the order book alone, so callers can turn
+     * it away before queueing it on a product lane, and before the users service is called.
+     *
+     * @return the rejection, or {@code null} if the bid may still win.
+     */
+    public BidStatusResponse rejectIfOutbid(final Long productIdentifier, final PlaceBidRequest request) {
+        final Long priceMinor = Prices.toMinor(request.getPrice(), request.getPriceMinor());
+        if (priceMinor == null || orderBook.canBeat(productIdentifier, priceMinor)) {
+            return null;
         }
-        if (productRecord.getStartPrice() > request.getPrice()) {
-            return BidStatusResponse.builder()
-                    .status(BidStatus.REJECTED)
-                    .message("Bid should be greater than or equal to minimum bid price")
+        log.info("Bid: {} cannot beat the leading bid of product: {}", priceMinor, productIdentifier);
+        final BidStatusResponse response = rejected("below-leading-bid", "Bid should be greater than the current highest bid");
+        bidMetrics.outcome(response.getStatus());
+        return response;
+    }
+
+    private void validateBider(final String userToken) {
+        try {
+            bidMetrics.time(BidMetrics.PLACE_BID, "validate-user", () -> userValidatorService.validateUser(userToken));
+        } catch (final InvalidRequestException e) {
+            bidMetrics.rejected("invalid-user");
+            throw e;
+        }
+    }
+
+    private BidStatusResponse rejected(final String reason, final String message) {
+        bidMetrics.rejected(reason);
+        return BidStatusResponse.builder()
+                .status(BidStatus.REJECTED)
+                .message(message)
+                .build();
+    }
+
+    private String encodeCursor(final Bid bid) {
+        final String cursor = bid.getBidPriceMinor() + ":" + bid.getTimestamp().getTime() + ":" + bid.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Bid decodeCursor(final String cursor) {
+        try {
+            final String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            return Bid.builder()
+                    .bidPriceMinor(Long.parseLong(parts[0]))
+                    .timestamp(new Date(Long.parseLong(parts[1])))
+                    .id(Long.parseLong(parts[2]))
                     .build();
+        } catch (final IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            log.warn("Invalid bid cursor: {}", cursor);
+            throw new InvalidRequestException("", e, "Invalid cursor");
         }
-        return saveBid(request, userToken, productRecord);
     }
 
-    private BidStatusResponse saveBid(final PlaceBidRequest request, final String userToken,
+    private long bidPriceMinor(final PlaceBidRequest request) {
+        final Long priceMinor = Prices.toMinor(request.getPrice(), request.getPriceMinor());
+        if (priceMinor == null) {
+            bidMetrics.rejected("missing-amount");
+            throw new InvalidRequestException("", "Bid amount is required");
+        }
+        return priceMinor;
+    }
+
+    private BidStatusResponse processBid(final long priceMinor, final String userToken,
+                                         final ProductDetail productRecord) {
+        if (priceMinor <= 0) {
+            return rejected("non-positive-amount", "Bid amount should be greater than 0");
+        }
+        if (productRecord.getStartPriceMinor() > priceMinor) {
+            return rejected("below-start-price", "Bid should be greater than or equal to minimum bid price");
+        }
+        if (bidIngestion.isEnabled()) {
+            final BidStatusResponse response = bidMetrics.time(BidMetrics.PLACE_BID, "queue-bid",
+                    () -> bidIngestion.submit(productRecord.getId(), userToken, priceMinor));
+            if (response.getStatus() == BidStatus.REJECTED) {
+                bidMetrics.rejected("queue-full");
+            }
+            return response;
+        }
+        return bidMetrics.time(BidMetrics.PLACE_BID, "save-bid", () -> saveBid(priceMinor, userToken, productRecord));
+    }
+
+    private BidStatusResponse saveBid(final long priceMinor, final String userToken,
                                       final ProductDetail productRecord) {
-        final Biding bidingRecord = new Biding();
-        bidingRecord.setTimestamp(new Date());
-        bidingRecord.setBidPrice(request.getPrice());
-        bidingRecord.setBider(userToken);
-        bidingRecord.setProductDetail(productRecord);
-        final Biding recordedBid = bidingRepository.save(bidingRecord);
+        final BidPlacedEvent placedBid = BidPlacedEvent.builder()
+                .productIdentifier(productRecord.getId())
+                .bider(userToken)
+                .bidPriceMinor(priceMinor)
+                .timestamp(new Date())
+                .build();
+        final Bid recordedBid = bidStore.append(placedBid);
 
         if (recordedBid.getId() != null) {
+            bidJournal.appendAfterCommit(List.of(placedBid));
+            eventPublisher.publishEvent(placedBid);
             return BidStatusResponse.builder()
                     .status(BidStatus.PLACED)
                     .build();
         } else {
-            return BidStatusResponse.builder()
-                    .status(BidStatus.REJECTED)
-                    .message("UNKNOWN")
-                    .build();
+            return rejected("not-saved", "UNKNOWN");
         }
     }
 
@@ -1,9 +1,15 @@
 package org.deutschebank.auction.biding.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.deutschebank.auction.biding.exception.InvalidRequestException;
+import org.deutschebank.auction.biding.model.Prices;
 import org.deutschebank.auction.biding.model.Product;
 import org.deutschebank.auction.biding.model.ProductStatus;
 import org.deutschebank.auction.biding.model.ProductStatusResponse;
@@ -11,11 +17,27 @@ import org.deutschebank.auction.biding.model.Products;
 import org.deutschebank.auction.biding.model.request.ToggleProductStatusRequest;
 import org.deutschebank.auction.biding.repository.ProductRepository;
 import org.deutschebank.auction.biding.repository.record.ProductDetail;
+import org.deutschebank.auction.biding.service.catalogue.CatalogueSnapshot;
+import org.deutschebank.auction.biding.service.catalogue.ProductCatalogue;
 import org.deutschebank.auction.biding.service.common.UserValidatorService;
+import org.deutschebank.auction.biding.service.event.ProductChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Log4j2
 @Service
@@ -27,26 +49,99 @@ public class ProductService {
 
     private final UserValidatorService userValidatorService;
 
+    private final ObjectMapper objectMapper;
+
+    private final ProductCatalogue productCatalogue;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${biding.products.max-page-size}")
+    private int maxPageSize;
+
     public Products getProducts(final boolean allowInactive) {
-        final List<ProductDetail> productRecords;
+        return getProducts(allowInactive, null, null, false);
+    }
+
+    public Products getProducts(final boolean allowInactive, final Integer limit, final Long after) {
+        return getProducts(allowInactive, limit, after, false);
+    }
+
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Products getProducts(final boolean allowInactive, final Integer limit, final Long after,
+                                final boolean compact) {
+        if (limit != null && (limit <= 0 || limit > maxPageSize)) {
+            log.warn("Invalid page size: {} requested", limit);
+            throw new InvalidRequestException("", "Limit should be between 1 and " + maxPageSize);
+        }
+        if (productCatalogue.isEnabled()) {
+            return getProducts(productCatalogue.getSnapshot(), allowInactive, limit, after, compact);
+        }
+        final long cursor = after != null ? after : 0L;
+        final Pageable page = limit != null ? PageRequest.ofSize(limit + 1) : Pageable.unpaged();
+        final List<Product> products;
         if (allowInactive) {
-            productRecords = productRepository.findAll();
+            products = compact
+                    ? productRepository.findCompactProducts(cursor, page)
+                    : productRepository.findProducts(cursor, page);
         } else {
-            productRecords = productRepository.findByActive(true);
+            products = compact
+                    ? productRepository.findActiveCompactProducts(cursor, page)
+                    : productRepository.findActiveProducts(cursor, page);
+        }
+        if (limit == null || products.size() <= limit) {
+            return Products.builder()
+                    .products(products).build();
+        }
+        final List<Product> pageProducts = List.copyOf(products.subList(0, limit));
+        return Products.builder()
+                .products(pageProducts)
+                .nextCursor(pageProducts.get(limit - 1).getId())
+                .build();
+    }
+
+    public void exportProducts(final boolean allowInactive, final OutputStream outputStream) throws IOException {
+        final ObjectWriter productWriter = objectMapper.writerFor(Product.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        final OutputStream bufferedOutputStream = new BufferedOutputStream(outputStream);
+        long exported = 0;
+        try (Stream<ProductDetail> productRecords = allowInactive
+                ? productRepository.streamAllByOrderByIdAsc()
+                : productRepository.streamByActiveOrderByIdAsc(true)) {
+            final Iterator<ProductDetail> iterator = productRecords.iterator();
+            while (iterator.hasNext()) {
+                final ProductDetail productRecord = iterator.next();
+                productWriter.writeValue(bufferedOutputStream, mapToModel(productRecord));
+                bufferedOutputStream.write('\n');
+                entityManager.detach(productRecord);
+                exported++;
+            }
         }
-        return mapListToModel(productRecords);
+        bufferedOutputStream.flush();
+        log.info("{} products exported", exported);
     }
 
     @Transactional
     public Product addProduct(final String userToken, final Product product) {
         userValidatorService.validateUser(userToken);
-        if (product.getStartPrice() == null || product.getStartPrice() <= 0) {
+        final Long startPriceMinor = Prices.toMinor(product.getStartPrice(), product.getStartPriceMinor());
+        if (startPriceMinor == null || startPriceMinor <= 0) {
             log.warn("Product start bid should be greater than 0");
             throw new InvalidRequestException("Product's minimum bid price should be greater than 0");
         }
-        final ProductDetail productDetail = mapToRecord(product, userToken);
+        if (product.getEndsAt() != null && !product.getEndsAt().after(new Date())) {
+            log.warn("Product auction end time: {} is not in the future", product.getEndsAt());
+            throw new InvalidRequestException("Auction end time should be in the future");
+        }
+        final ProductDetail productDetail = mapToRecord(product, startPriceMinor, userToken);
         final ProductDetail savedProduct = saveProduct(productDetail);
-        return mapToModel(savedProduct);
+        final Product savedModel = mapToModel(savedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.builder()
+                .product(savedModel)
+                .version(savedProduct.getVersion())
+                .build());
+        return savedModel;
     }
 
     @Transactional
@@ -63,13 +158,20 @@ public class ProductService {
                 throw new InvalidRequestException("Product status cannot be changed for already sold out product");
             }
             productRecord.setActive(request.isActive());
-            saveProduct(productRecord);
+            productRepository.saveAndFlush(productRecord);
+            eventPublisher.publishEvent(ProductChangedEvent.builder()
+                    .product(mapToModel(productRecord))
+                    .version(productRecord.getVersion())
+                    .build());
             return ProductStatusResponse.builder()
                     .status(productRecord.getActive() ? ProductStatus.ACTIVE : ProductStatus.INACTIVE)
                     .build();
         } catch (final EntityNotFoundException e) {
             log.error("Invalid product id: {} provided", productIdentifier, e);
             throw new InvalidRequestException("", e.getCause(), "Invalid product indentifier provided");
+        } catch (final OptimisticLockingFailureException e) {
+            log.warn("Product: {} was changed while its status was changed", productIdentifier);
+            throw new InvalidRequestException("", e, "Product was changed at the same time, try again");
         } catch (final InvalidRequestException e) {
             throw e;
         } catch (final Exception e) {
@@ -78,6 +180,34 @@ public class ProductService {
         }
     }
 
+    private Products getProducts(final CatalogueSnapshot snapshot, final boolean allowInactive, final Integer limit,
+                                 final Long after, final boolean compact) {
+        if (limit == null && after == null && !compact) {
+            return Products.builder()
+                    .products(allowInactive ? snapshot.getAllProductList() : snapshot.getActiveProductList())
+                    .catalogueVersion(snapshot.getVersion())
+                    .build();
+        }
+        final List<Product> products = snapshot.getProductsAfter(allowInactive, after,
+                limit != null ? limit + 1 : Integer.MAX_VALUE);
+        final int pageSize = limit != null ? Math.min(limit, products.size()) : products.size();
+        final List<Product> page = new ArrayList<>(pageSize);
+        for (final Product product : products.subList(0, pageSize)) {
+            page.add(compact ? withoutDescription(product) : product);
+        }
+        return Products.builder()
+                .products(page)
+                .nextCursor(products.size() > pageSize ? page.get(pageSize - 1).getId() : null)
+                .catalogueVersion(snapshot.getVersion())
+                .build();
+    }
+
+    private Product withoutDescription(final Product product) {
+        return new Product(product.getId(), product.getName(), null, null, product.getStartPriceMinor(),
+                product.getSold(), product.getSoldPriceMinor(), product.getActive(), product.getAuthor(),
+                product.getEndsAt());
+    }
+
     private ProductDetail saveProduct(final ProductDetail productDetail) {
         return productRepository.save(productDetail);
     }
@@ -86,37 +216,31 @@ public class ProductService {
         return productRepository.getReferenceById(productIdentifier);
     }
 
-    private Products mapListToModel(final List<ProductDetail> productRecords) {
-        final List<Product> products = productRecords.stream()
-                .map(this::mapToModel)
-                .toList();
-        return Products.builder()
-                .products(products).build();
-    }
-
     private Product mapToModel(final ProductDetail savedProduct) {
         return Product.builder()
                 .id(savedProduct.getId())
                 .name(savedProduct.getName())
                 .description(savedProduct.getDescription())
                 .active(savedProduct.getActive())
-                .startPrice(savedProduct.getStartPrice())
+                .startPriceMinor(savedProduct.getStartPriceMinor())
                 .sold(savedProduct.getSold())
-                .soldPrice(savedProduct.getSoldPrice())
+                .soldPriceMinor(savedProduct.getSoldPriceMinor())
                 .author(savedProduct.getAuthor())
+                .endsAt(savedProduct.getEndsAt())
                 .build();
     }
 
-    private ProductDetail mapToRecord(final Product product, final String userToken) {
+    private ProductDetail mapToRecord(final Product product, final Long startPriceMinor, final String userToken) {
         if (product != null && userToken != null) {
             final ProductDetail productDetail = new ProductDetail();
             productDetail.setName(product.getName());
             productDetail.setDescription(product.getDescription());
             productDetail.setSold(false);
-            productDetail.setSoldPrice(null);
+            productDetail.setSoldPriceMinor(null);
             productDetail.setActive(product.getActive());
             productDetail.setAuthor(userToken);
-            productDetail.setStartPrice(product.getStartPrice());
+            productDetail.setStartPriceMinor(startPriceMinor);
+            productDetail.setEndsAt(product.getEndsAt());
             return productDetail;
         } else {
             throw new InvalidRequestException("empty product details provided");
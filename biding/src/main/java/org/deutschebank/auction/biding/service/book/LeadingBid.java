@@ -0,0 +1,18 @@
+package org.deutschebank.auction.biding.service.book;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class LeadingBid {
+
+    String bider;
+    long bidPriceMinor;
+    long timestamp;
+
+    boolean isOutbidBy(final LeadingBid other) {
+        return other.bidPriceMinor > bidPriceMinor || (other.bidPriceMinor == bidPriceMinor && other.timestamp < timestamp);
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.deutschebank.auction.biding.service.book;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.service.event.AuctionClosedEvent;
+import org.deutschebank.auction.biding.service.event.BidPlacedEvent;
+import org.deutschebank.auction.biding.service.store.BidStore;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the leading bid of every open auction in memory so that closing an auction with the {@code jpa} store or
+ * checking whether a new bid can still win does not need to read the bid store.
+ */
+@Log4j2
+@Component
+@DependsOn("bidJournal")
+@RequiredArgsConstructor
+public class OrderBook {
+
+    private final BidStore bidStore;
+
+    private final Map<Long, LeadingBid> leadingBids = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void seed() {
+        leadingBids.putAll(bidStore.getLeadingBidsOfOpenAuctions());
+        log.info("Order book seeded with leading bids of {} products", leadingBids.size());
+    }
+
+    public LeadingBid getLeadingBid(final Long productIdentifier) {
+        return leadingBids.get(productIdentifier);
+    }
+
+    public boolean canBeat(final Long productIdentifier, final long priceMinor) {
+        final LeadingBid leadingBid = leadingBids.get(productIdentifier);
+        return leadingBid == null || priceMinor > leadingBid.getBidPriceMinor();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidPlaced(final BidPlacedEvent event) {
+        offer(event.getProductIdentifier(), event.getBider(), event.getBidPriceMinor(), event.getTimestamp().getTime());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionClosed(final AuctionClosedEvent event) {
+        leadingBids.remove(event.getProductIdentifier());
+    }
+
+    private void offer(final Long productIdentifier, final String bider, final long bidPriceMinor,
+                       final long timestamp) {
+        final LeadingBid bid = LeadingBid.builder()
+                .bider(bider)
+                .bidPriceMinor(bidPriceMinor)
+                .timestamp(timestamp)
+                .build();
+        leadingBids.merge(productIdentifier, bid, (current, offered) -> current.isOutbidBy(offered) ? offered : current);
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.deutschebank.auction.biding.service.catalogue;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.deutschebank.auction.biding.model.Product;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable view of the product catalogue. Every change creates a new snapshot with the next version, sharing the
+ * unchanged part of the {@link ProductTree}s with the previous one. The complete product lists are built on the
+ * first read of a snapshot.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CatalogueSnapshot {
+
+    @Getter
+    private final long version;
+    private final ProductTree allProducts;
+    private final ProductTree activeProducts;
+
+    private volatile List<Product> allProductList;
+    private volatile List<Product> activeProductList;
+
+    static CatalogueSnapshot of(final long version, final Collection<Product> products) {
+        ProductTree allProducts = ProductTree.EMPTY;
+        ProductTree activeProducts = ProductTree.EMPTY;
+        for (final Product product : products) {
+            allProducts = allProducts.put(product);
+            if (Boolean.TRUE.equals(product.getActive())) {
+                activeProducts = activeProducts.put(product);
+            }
+        }
+        return new CatalogueSnapshot(version, allProducts, activeProducts, null, null);
+    }
+
+    CatalogueSnapshot with(final Product product) {
+        return new CatalogueSnapshot(version + 1, allProducts.put(product),
+                Boolean.TRUE.equals(product.getActive())
+                        ? activeProducts.put(product)
+                        : activeProducts.remove(product.getId()),
+                null, null);
+    }
+
+    public Product getProduct(final Long productIdentifier) {
+        return allProducts.get(productIdentifier);
+    }
+
+    public List<Product> getAllProductList() {
+        List<Product> products = allProductList;
+        if (products == null) {
+            products = List.copyOf(allProducts.toList());
+            allProductList = products;
+        }
+        return products;
+    }
+
+    public List<Product> getActiveProductList() {
+        List<Product> products = activeProductList;
+        if (products == null) {
+            products = List.copyOf(activeProducts.toList());
+            activeProductList = products;
+        }
+        return products;
+    }
+
+    /**
+     * @return up to {@code max} products with an id greater than {@code after} ({@code null} for all) in id order.
+     */
+    public List<Product> getProductsAfter(final boolean allowInactive, final Long after, final int max) {
+        final List<Product> products = new ArrayList<>(Math.min(max, 1024));
+        (allowInactive ? allProducts : activeProducts).forEachAfter(after, product -> {
+            products.add(product);
+            return products.size() < max;
+        });
+        return products;
+    }
+
+}
@@ -0,0 +1,78 @@
+package org.deutschebank.auction.biding.service.catalogue;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.model.Product;
+import org.deutschebank.auction.biding.repository.ProductRepository;
+import org.deutschebank.auction.biding.service.event.ProductChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory catalogue serving product listings without a database query. Product changes are written through
+ * after commit by swapping in a new {@link CatalogueSnapshot}, readers always see a complete snapshot. Changes of the
+ * same product committed by concurrent transactions can arrive out of order, a change with a version lower than the
+ * one already applied is ignored.
+ */
+@Log4j2
+@Component
+@DependsOn("bidJournal")
+public class ProductCatalogue {
+
+    private final ProductRepository productRepository;
+
+    @Getter
+    private final boolean enabled;
+
+    private final AtomicReference<CatalogueSnapshot> snapshot = new AtomicReference<>();
+    private final Map<Long, Long> versions = new HashMap<>();
+
+    public ProductCatalogue(final ProductRepository productRepository,
+                            @Value("${biding.catalogue.cache.enabled}") final boolean enabled) {
+        this.productRepository = productRepository;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    void seed() {
+        if (!enabled) {
+            return;
+        }
+        snapshot.set(CatalogueSnapshot.of(1, productRepository.findProducts(0L, Pageable.unpaged())));
+        log.info("Product catalogue seeded with {} products", snapshot.get().getAllProductList().size());
+    }
+
+    public CatalogueSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(final ProductChangedEvent event) {
+        apply(event.getProduct(), event.getVersion());
+    }
+
+    private synchronized void apply(final Product product, final Long version) {
+        if (!enabled) {
+            return;
+        }
+        if (version != null) {
+            final Long appliedVersion = versions.get(product.getId());
+            if (appliedVersion != null && appliedVersion >= version) {
+                log.debug("Stale version: {} of product: {} ignored, version: {} is applied", version,
+                        product.getId(), appliedVersion);
+                return;
+            }
+            versions.put(product.getId(), version);
+        }
+        snapshot.set(snapshot.get().with(product));
+    }
+
+}
@@ -0,0 +1,148 @@
+package org.deutschebank.auction.biding.service.catalogue;
+
+import org.deutschebank.auction.biding.model.Product;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Persistent map of products by id: a treap whose priorities are derived from the id, changed by copying only the
+ * nodes on the path to the changed product. A change costs O(log n) and leaves every earlier tree intact, so
+ * snapshots share all unchanged nodes.
+ */
+final class ProductTree {
+
+    static final ProductTree EMPTY = new ProductTree(null);
+
+    private final Node root;
+
+    private ProductTree(final Node root) {
+        this.root = root;
+    }
+
+    Product get(final long id) {
+        Node node = root;
+        while (node != null) {
+            if (id == node.id) {
+                return node.product;
+            }
+            node = id < node.id ? node.left : node.right;
+        }
+        return null;
+    }
+
+    ProductTree put(final Product product) {
+        return new ProductTree(insert(root, product.getId(), product, priority(product.getId())));
+    }
+
+    ProductTree remove(final long id) {
+        return get(id) == null ? this : new ProductTree(delete(root, id));
+    }
+
+    /**
+     * Passes the products with an id greater than {@code after} ({@code null} for all) in id order to
+     * {@code action} until it returns {@code false}.
+     */
+    void forEachAfter(final Long after, final Predicate<Product> action) {
+        final Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        while (node != null) {
+            if (after == null || node.id > after) {
+                path.push(node);
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        while (!path.isEmpty()) {
+            node = path.pop();
+            if (!action.test(node.product)) {
+                return;
+            }
+            for (node = node.right; node != null; node = node.left) {
+                path.push(node);
+            }
+        }
+    }
+
+    List<Product> toList() {
+        final List<Product> products = new ArrayList<>();
+        forEachAfter(null, products::add);
+        return products;
+    }
+
+    /**
+     * A product already in the subtree has the same priority, so it can only be at the root of a subtree whose
+     * root priority is lower than the new one.
+     */
+    private static Node insert(final Node node, final long id, final Product product, final long priority) {
+        if (node == null) {
+            return new Node(id, product, priority, null, null);
+        }
+        if (id == node.id) {
+            return new Node(id, product, node.priority, node.left, node.right);
+        }
+        if (priority > node.priority) {
+            final Node[] parts = split(node, id);
+            return new Node(id, product, priority, parts[0], parts[1]);
+        }
+        return id < node.id
+                ? node.with(insert(node.left, id, product, priority), node.right)
+                : node.with(node.left, insert(node.right, id, product, priority));
+    }
+
+    private static Node delete(final Node node, final long id) {
+        if (id == node.id) {
+            return merge(node.left, node.right);
+        }
+        return id < node.id
+                ? node.with(delete(node.left, id), node.right)
+                : node.with(node.left, delete(node.right, id));
+    }
+
+    /**
+     * @return the nodes with an id lower and higher than {@code id}, which is not in the tree.
+     */
+    private static Node[] split(final Node node, final long id) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (node.id < id) {
+            final Node[] parts = split(node.right, id);
+            return new Node[]{node.with(node.left, parts[0]), parts[1]};
+        }
+        final Node[] parts = split(node.left, id);
+        return new Node[]{parts[0], node.with(parts[1], node.right)};
+    }
+
+    private static Node merge(final Node lower, final Node higher) {
+        if (lower == null) {
+            return higher;
+        }
+        if (higher == null) {
+            return lower;
+        }
+        return lower.priority >= higher.priority
+                ? lower.with(lower.left, merge(lower.right, higher))
+                : higher.with(merge(lower, higher.left), higher.right);
+    }
+
+    private static long priority(final long id) {
+        long hash = id + 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private record Node(long id, Product product, long priority, Node left, Node right) {
+
+        Node with(final Node left, final Node right) {
+            return new Node(id, product, priority, left, right);
+        }
+
+    }
+
+}
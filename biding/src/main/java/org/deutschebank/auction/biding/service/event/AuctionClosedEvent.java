@@ -0,0 +1,14 @@
+package org.deutschebank.auction.biding.service.event;
+
+import lombok.Builder;
+import lombok.Value;
+import org.deutschebank.auction.biding.model.BidWinner;
+
+@Value
+@Builder
+public class AuctionClosedEvent {
+
+    Long productIdentifier;
+    BidWinner bidWinner;
+
+}
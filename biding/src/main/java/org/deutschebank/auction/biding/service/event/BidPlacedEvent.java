@@ -0,0 +1,17 @@
+package org.deutschebank.auction.biding.service.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Date;
+
+@Value
+@Builder
+public class BidPlacedEvent {
+
+    Long productIdentifier;
+    String bider;
+    long bidPriceMinor;
+    Date timestamp;
+
+}
@@ -0,0 +1,18 @@
+package org.deutschebank.auction.biding.service.event;
+
+import lombok.Builder;
+import lombok.Value;
+import org.deutschebank.auction.biding.model.Product;
+
+@Value
+@Builder
+public class ProductChangedEvent {
+
+    Product product;
+
+    /**
+     * Version of the changed product record, later changes of a product have a higher version.
+     */
+    Long version;
+
+}
@@ -0,0 +1,167 @@
+package org.deutschebank.auction.biding.service.feed;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.model.BidUpdate;
+import org.deutschebank.auction.biding.model.BidWinner;
+import org.deutschebank.auction.biding.service.event.AuctionClosedEvent;
+import org.deutschebank.auction.biding.service.event.BidPlacedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Fans out accepted bids and the auction result to the server-sent event subscribers of a product. Every
+ * subscriber has a bounded buffer drained by a shared sender pool, a subscriber whose buffer overflows is
+ * dropped instead of slowing down the bid path or the other subscribers.
+ */
+@Log4j2
+@Component
+public class BidFeed {
+
+    private final long timeoutMillis;
+    private final int bufferSize;
+
+    private final Map<Long, Set<BidFeedSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders;
+    private final Counter droppedSubscribers;
+
+    public BidFeed(@Value("${biding.feed.timeout-ms}") final long timeoutMillis,
+                   @Value("${biding.feed.buffer-size}") final int bufferSize,
+                   @Value("${biding.feed.senders}") final int senders,
+                   final MeterRegistry meterRegistry) {
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.senders = Executors.newFixedThreadPool(senders, runnable -> {
+            final Thread thread = new Thread(runnable, "bid-feed-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("biding.feed.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open bid feed subscriptions")
+                .register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("biding.feed.subscribers.dropped")
+                .description("Bid feed subscribers dropped because they could not keep up")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Subscribes to the bids of a product. {@code result} is read once the subscription is registered: an auction
+     * closed before that is answered with its result and the end of the feed, an auction closed afterwards is
+     * reported by its {@link AuctionClosedEvent}.
+     */
+    public SseEmitter subscribe(final Long productIdentifier, final Supplier<BidWinner> result) {
+        final SseEmitter emitter = createEmitter();
+        final BidFeedSubscriber subscriber = new BidFeedSubscriber(productIdentifier, emitter, bufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        subscribers.computeIfAbsent(productIdentifier, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        final BidWinner bidWinner = result.get();
+        if (bidWinner != null) {
+            offer(subscriber, new BidFeedSubscriber.FeedEvent("winner", bidWinner));
+            offer(subscriber, BidFeedSubscriber.FeedEvent.END);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidPlaced(final BidPlacedEvent event) {
+        publish(event.getProductIdentifier(), new BidFeedSubscriber.FeedEvent("bid", BidUpdate.builder()
+                .productIdentifier(event.getProductIdentifier())
+                .bider(event.getBider())
+                .bidPriceMinor(event.getBidPriceMinor())
+                .timestamp(event.getTimestamp())
+                .build()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionClosed(final AuctionClosedEvent event) {
+        publish(event.getProductIdentifier(), new BidFeedSubscriber.FeedEvent("winner", event.getBidWinner()));
+        publish(event.getProductIdentifier(), BidFeedSubscriber.FeedEvent.END);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        subscribers.values().forEach(productSubscribers -> productSubscribers.forEach(subscriber ->
+                subscriber.getEmitter().complete()));
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void publish(final Long productIdentifier, final BidFeedSubscriber.FeedEvent event) {
+        final Set<BidFeedSubscriber> productSubscribers = subscribers.get(productIdentifier);
+        if (productSubscribers == null) {
+            return;
+        }
+        for (final BidFeedSubscriber subscriber : productSubscribers) {
+            offer(subscriber, event);
+        }
+    }
+
+    private void offer(final BidFeedSubscriber subscriber, final BidFeedSubscriber.FeedEvent event) {
+        if (!subscriber.getBuffer().offer(event)) {
+            log.info("Dropping slow bid feed subscriber of product: {}", subscriber.getProductIdentifier());
+            droppedSubscribers.increment();
+            remove(subscriber);
+            subscriber.getEmitter().complete();
+            return;
+        }
+        if (subscriber.getDraining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(final BidFeedSubscriber subscriber) {
+        try {
+            BidFeedSubscriber.FeedEvent event;
+            while ((event = subscriber.getBuffer().poll()) != null) {
+                if (event == BidFeedSubscriber.FeedEvent.END) {
+                    subscriber.getEmitter().complete();
+                    remove(subscriber);
+                    return;
+                }
+                subscriber.getEmitter().send(SseEmitter.event().name(event.name()).data(event.data()));
+            }
+        } catch (final Exception e) {
+            log.debug("Bid feed subscriber of product: {} disconnected", subscriber.getProductIdentifier(), e);
+            remove(subscriber);
+            subscriber.getEmitter().completeWithError(e);
+            return;
+        } finally {
+            subscriber.getDraining().set(false);
+        }
+        if (!subscriber.getBuffer().isEmpty() && subscriber.getDraining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void remove(final BidFeedSubscriber subscriber) {
+        if (!subscriber.getClosed().compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.getProductIdentifier(), (id, productSubscribers) -> {
+            productSubscribers.remove(subscriber);
+            return productSubscribers.isEmpty() ? null : productSubscribers;
+        });
+    }
+
+}
@@ -0,0 +1,34 @@
+package org.deutschebank.auction.biding.service.feed;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Getter
+class BidFeedSubscriber {
+
+    private final Long productIdentifier;
+    private final SseEmitter emitter;
+    private final BlockingQueue<FeedEvent> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    BidFeedSubscriber(final Long productIdentifier, final SseEmitter emitter, final int bufferSize) {
+        this.productIdentifier = productIdentifier;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    /**
+     * Event queued for a subscriber, {@link #END} marks the end of the feed.
+     */
+    record FeedEvent(String name, Object data) {
+
+        static final FeedEvent END = new FeedEvent(null, null);
+
+    }
+
+}
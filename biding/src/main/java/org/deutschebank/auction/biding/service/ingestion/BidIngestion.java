@@ -0,0 +1,333 @@
+package org.deutschebank.auction.biding.service.ingestion;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.exception.BusinessException;
+import org.deutschebank.auction.biding.model.BidStatus;
+import org.deutschebank.auction.biding.model.BidStatusResponse;
+import org.deutschebank.auction.biding.service.book.OrderBook;
+import org.deutschebank.auction.biding.service.event.BidPlacedEvent;
+import org.deutschebank.auction.biding.service.journal.BidJournal;
+import org.deutschebank.auction.biding.service.store.BidStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous bid ingestion ({@code biding.ingestion.mode=async}). Validated bids are queued and answered with
+ * a ticket, a single writer thread inserts them into {@code biding_list} in JDBC batches (one transaction per
+ * drained batch, Hibernate batches the inserts using pooled sequence ids). Closing an auction waits for every
+ * bid submitted before it, queued bids of a closed auction are rejected when their batch is written. Queued bids are
+ * checked against the {@link OrderBook} again when written, a bid outbid by an earlier queued bid is rejected.
+ */
+@Log4j2
+@Component
+public class BidIngestion {
+
+    private final BidStore bidStore;
+    private final OrderBook orderBook;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BidJournal bidJournal;
+
+    @Getter
+    private final boolean enabled;
+    private final int batchSize;
+    private final int ticketRetention;
+
+    private final BlockingQueue<PendingBid> pendingBids;
+    private final Map<String, BidStatusResponse> tickets;
+    private final Object writeLock = new Object();
+    private final AtomicLong submitted = new AtomicLong();
+    private final Set<Long> closedProducts = ConcurrentHashMap.newKeySet();
+    private long written;
+
+    private Thread writer;
+    private volatile boolean running;
+
+    public BidIngestion(final BidStore bidStore,
+                        final OrderBook orderBook,
+                        final PlatformTransactionManager transactionManager,
+                        final ApplicationEventPublisher eventPublisher,
+                        final BidJournal bidJournal,
+                        @Value("${biding.ingestion.mode}") final String mode,
+                        @Value("${biding.ingestion.queue-capacity}") final int queueCapacity,
+                        @Value("${biding.ingestion.batch-size}") final int batchSize,
+                        @Value("${biding.ingestion.ticket-retention}") final int ticketRetention) {
+        this.bidStore = bidStore;
+        this.orderBook = orderBook;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.bidJournal = bidJournal;
+        this.enabled = "async".equalsIgnoreCase(mode);
+        this.batchSize = batchSize;
+        this.ticketRetention = ticketRetention;
+        this.pendingBids = new ArrayBlockingQueue<>(queueCapacity);
+        this.tickets = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, BidStatusResponse> eldest) {
+                return size() > BidIngestion.this.ticketRetention;
+            }
+        };
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::write, "bid-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Asynchronous bid ingestion enabled with batch size: {}", batchSize);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        writer.interrupt();
+        writer.join();
+        synchronized (writeLock) {
+            drain();
+        }
+    }
+
+    public BidStatusResponse submit(final Long productIdentifier, final String bider, final long bidPriceMinor) {
+        final PendingBid pendingBid = PendingBid.builder()
+                .ticket(UUID.randomUUID().toString())
+                .productIdentifier(productIdentifier)
+                .bider(bider)
+                .bidPriceMinor(bidPriceMinor)
+                .timestamp(new Date())
+                .build();
+        final BidStatusResponse accepted = BidStatusResponse.builder()
+                .status(BidStatus.ACCEPTED)
+                .ticket(pendingBid.getTicket())
+                .build();
+        updateTicket(accepted);
+        submitted.incrementAndGet();
+        if (!pendingBids.offer(pendingBid)) {
+            written(1);
+            log.warn("Bid ingestion queue is full, rejecting bid for product: {}", productIdentifier);
+            final BidStatusResponse rejected = BidStatusResponse.builder()
+                    .status(BidStatus.REJECTED)
+                    .message("Too many bids in progress, please try again")
+                    .ticket(pendingBid.getTicket())
+                    .build();
+            updateTicket(rejected);
+            return rejected;
+        }
+        return accepted;
+    }
+
+    public BidStatusResponse getStatus(final String ticket) {
+        synchronized (tickets) {
+            return tickets.get(ticket);
+        }
+    }
+
+    /**
+     * Writes all queued bids on the calling thread and waits for the batch the writer thread is holding, used
+     * before an auction is closed so that no accepted bid is left out of the winner computation. Bids of the
+     * product written afterwards are rejected, unless the transaction closing the auction rolls back.
+     */
+    public void flush(final Long productIdentifier) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeLock) {
+            final long target = submitted.get();
+            drain();
+            while (written < target) {
+                try {
+                    writeLock.wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new BusinessException("", e, "Interrupted while writing queued bids");
+                }
+                drain();
+            }
+            closedProducts.add(productIdentifier);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status != STATUS_COMMITTED) {
+                        closedProducts.remove(productIdentifier);
+                    }
+                }
+            });
+        }
+    }
+
+    private void write() {
+        final List<PendingBid> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                final PendingBid first = pendingBids.take();
+                synchronized (writeLock) {
+                    batch.add(first);
+                    pendingBids.drainTo(batch, batchSize - 1);
+                    writeBatch(batch);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final Exception e) {
+                log.error("Unexpected error occurred in bid ingestion writer", e);
+            } finally {
+                if (!batch.isEmpty()) {
+                    synchronized (writeLock) {
+                        written(batch.size());
+                    }
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Called holding {@code writeLock}.
+     */
+    private void drain() {
+        final List<PendingBid> batch = new ArrayList<>(batchSize);
+        while (pendingBids.drainTo(batch, batchSize) > 0) {
+            try {
+                writeBatch(batch);
+            } finally {
+                written(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void written(final int count) {
+        synchronized (writeLock) {
+            written += count;
+            writeLock.notifyAll();
+        }
+    }
+
+    /**
+     * The order book only sees the bids of a batch after it commits, so the leading price of every product within
+     * the batch is tracked to reject the bids outbid by an earlier bid of the same batch.
+     */
+    private void writeBatch(final List<PendingBid> batch) {
+        final List<PendingBid> openBids = new ArrayList<>(batch.size());
+        final Map<Long, Long> batchLeaders = new HashMap<>();
+        for (final PendingBid bid : batch) {
+            final Long productIdentifier = bid.getProductIdentifier();
+            final Long batchLeader = batchLeaders.get(productIdentifier);
+            if (closedProducts.contains(productIdentifier)) {
+                log.info("Auction of product: {} has ended, rejecting queued bid", productIdentifier);
+                updateTicket(rejected(bid, "Auction has ended"));
+            } else if (!orderBook.canBeat(productIdentifier, bid.getBidPriceMinor())
+                    || batchLeader != null && bid.getBidPriceMinor() <= batchLeader) {
+                log.info("Queued bid: {} cannot beat the leading bid of product: {}", bid.getBidPriceMinor(),
+                        productIdentifier);
+                updateTicket(rejected(bid, "Bid should be greater than the current highest bid"));
+            } else {
+                batchLeaders.put(productIdentifier, bid.getBidPriceMinor());
+                openBids.add(bid);
+            }
+        }
+        if (openBids.isEmpty()) {
+            return;
+        }
+        final List<BidPlacedEvent> placedBids;
+        try {
+            placedBids = transactionTemplate.execute(status -> insert(openBids));
+        } catch (final Exception e) {
+            log.warn("Batch of {} bids failed, retrying bids one by one", openBids.size(), e);
+            openBids.forEach(this::writeSingle);
+            return;
+        }
+        journal(openBids, placedBids);
+    }
+
+    private void writeSingle(final PendingBid bid) {
+        final List<BidPlacedEvent> placedBids;
+        try {
+            placedBids = transactionTemplate.execute(status -> insert(List.of(bid)));
+        } catch (final Exception e) {
+            log.error("Error occurred while saving bid for product: {}", bid.getProductIdentifier(), e);
+            updateTicket(rejected(bid, "UNKNOWN"));
+            return;
+        }
+        journal(List.of(bid), placedBids);
+    }
+
+    /**
+     * Journals committed bids, waiting for one group commit covering all of them, before their tickets are placed.
+     * The bids are committed, so their tickets are placed even if the journal fails.
+     */
+    private void journal(final List<PendingBid> batch, final List<BidPlacedEvent> placedBids) {
+        bidJournal.appendCommitted(placedBids);
+        batch.forEach(bid -> updateTicket(placed(bid)));
+    }
+
+    /**
+     * Stores the batch, the {@link BidPlacedEvent}s are published after the transaction commits.
+     */
+    private List<BidPlacedEvent> insert(final List<PendingBid> batch) {
+        final List<BidPlacedEvent> placedBids = batch.stream()
+                .map(bid -> BidPlacedEvent.builder()
+                        .productIdentifier(bid.getProductIdentifier())
+                        .bider(bid.getBider())
+                        .bidPriceMinor(bid.getBidPriceMinor())
+                        .timestamp(bid.getTimestamp())
+                        .build())
+                .toList();
+        bidStore.appendAll(placedBids);
+        placedBids.forEach(eventPublisher::publishEvent);
+        return placedBids;
+    }
+
+    private BidStatusResponse placed(final PendingBid bid) {
+        return BidStatusResponse.builder()
+                .status(BidStatus.PLACED)
+                .ticket(bid.getTicket())
+                .build();
+    }
+
+    private BidStatusResponse rejected(final PendingBid bid, final String message) {
+        return BidStatusResponse.builder()
+                .status(BidStatus.REJECTED)
+                .message(message)
+                .ticket(bid.getTicket())
+                .build();
+    }
+
+    private void updateTicket(final BidStatusResponse status) {
+        synchronized (tickets) {
+            tickets.put(status.getTicket(), status);
+        }
+    }
+
+}
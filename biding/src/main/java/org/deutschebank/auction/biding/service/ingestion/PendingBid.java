@@ -0,0 +1,18 @@
+package org.deutschebank.auction.biding.service.ingestion;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Date;
+
+@Value
+@Builder
+public class PendingBid {
+
+    String ticket;
+    Long productIdentifier;
+    String bider;
+    long bidPriceMinor;
+    Date timestamp;
+
+}
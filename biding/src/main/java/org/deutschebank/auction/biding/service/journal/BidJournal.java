@@ -0,0 +1,375 @@
+package org.deutschebank.auction.biding.service.journal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.exception.BusinessException;
+import org.deutschebank.auction.biding.repository.ProductRepository;
+import org.deutschebank.auction.biding.service.event.BidPlacedEvent;
+import org.deutschebank.auction.biding.service.store.BidStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of placed bids in a memory-mapped file ({@code biding.journal.enabled}). Every bid is a
+ * record of product id, price in minor units, time, the length of the bider token and the token itself in UTF-8,
+ * followed by a CRC of the record. Bids are appended once their
+ * transaction has committed, a flusher thread forces appended records to disk in groups and callers wait until
+ * their record is forced. On startup the products of the {@link ProductJournal} are restored and the journal is
+ * replayed into the bid store before the order book and leaderboards are seeded.
+ */
+@Log4j2
+@Component
+public class BidJournal {
+
+    private static final int HEADER_SIZE = 3 * Long.BYTES + Integer.BYTES;
+    /**
+     * User tokens arrive in a request header or the query of the web socket handshake, which are limited to 8 KB.
+     */
+    private static final int MAX_BIDER_BYTES = 8 * 1024;
+    private static final int MAX_RECORD_SIZE = HEADER_SIZE + MAX_BIDER_BYTES + Integer.BYTES;
+    private static final int REPLAY_BUFFER_SIZE = 64 * 1024;
+    private static final int REPLAY_CHUNK = 1_000;
+
+    private final BidStore bidStore;
+    private final ProductRepository productRepository;
+    private final ProductJournal productJournal;
+    private final TransactionTemplate transactionTemplate;
+
+    @Getter
+    private final boolean enabled;
+    private final Path path;
+    private final long regionSize;
+    private final long groupCommitMillis;
+    private final int groupCommitSize;
+    private final long awaitTimeoutMillis;
+
+    private final Counter failures;
+
+    private final CRC32 crc = new CRC32();
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_RECORD_SIZE);
+
+    private FileChannel channel;
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long position;
+    private long appended;
+    private long forced;
+
+    private Thread flusher;
+    private volatile boolean running;
+
+    public BidJournal(final BidStore bidStore,
+                      final ProductRepository productRepository,
+                      final ProductJournal productJournal,
+                      final PlatformTransactionManager transactionManager,
+                      @Value("${biding.journal.enabled}") final boolean enabled,
+                      @Value("${biding.journal.path}") final String path,
+                      @Value("${biding.journal.region-size-mb}") final int regionSizeMb,
+                      @Value("${biding.journal.group-commit-ms}") final long groupCommitMillis,
+                      @Value("${biding.journal.group-commit-size}") final int groupCommitSize,
+                      @Value("${biding.journal.await-timeout-ms}") final long awaitTimeoutMillis,
+                      final MeterRegistry meterRegistry) {
+        this.bidStore = bidStore;
+        this.productRepository = productRepository;
+        this.productJournal = productJournal;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.regionSize = regionSizeMb * 1024L * 1024L;
+        this.groupCommitMillis = groupCommitMillis;
+        this.groupCommitSize = groupCommitSize;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        this.failures = Counter.builder("biding.journal.failures")
+                .description("Committed bids that could not be journaled and will not be replayed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        productJournal.open();
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        position = replay();
+        regionStart = position;
+        region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, regionSize);
+        running = true;
+        flusher = new Thread(this::flush, "bid-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        synchronized (this) {
+            region.force();
+            forced = appended;
+            notifyAll();
+        }
+        channel.close();
+    }
+
+    /**
+     * Journals the bids once the current transaction commits, so a rolled back bid is never replayed.
+     */
+    public void appendAfterCommit(final List<BidPlacedEvent> bids) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            appendCommitted(bids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                appendCommitted(bids);
+            }
+        });
+    }
+
+    /**
+     * Journals committed bids and waits until they are on disk. The bids stay placed if that fails, which is logged
+     * and counted in {@code biding.journal.failures} to raise an alert, as they would be missing after a restart.
+     */
+    public void appendCommitted(final List<BidPlacedEvent> bids) {
+        try {
+            appendDurably(bids);
+        } catch (final RuntimeException e) {
+            failures.increment(bids.size());
+            log.error("{} committed bids could not be journaled and will not be replayed", bids.size(), e);
+        }
+    }
+
+    /**
+     * Journals committed bids and waits for one group commit covering all of them.
+     */
+    private void appendDurably(final List<BidPlacedEvent> bids) {
+        if (!enabled || bids.isEmpty()) {
+            return;
+        }
+        long sequence = 0;
+        for (final BidPlacedEvent bid : bids) {
+            sequence = append(bid.getProductIdentifier(), bid.getBider(), bid.getBidPriceMinor(), bid.getTimestamp());
+        }
+        awaitDurable(sequence);
+    }
+
+    /**
+     * Appends a bid to the journal without waiting for it to reach the disk.
+     *
+     * @return the sequence to pass to {@link #awaitDurable(long)}.
+     */
+    private long append(final Long productIdentifier, final String bider, final long bidPriceMinor,
+                        final Date timestamp) {
+        final byte[] biderBytes = bider.getBytes(StandardCharsets.UTF_8);
+        if (biderBytes.length == 0 || biderBytes.length > MAX_BIDER_BYTES) {
+            throw new BusinessException("", "Bider token of " + biderBytes.length + " bytes cannot be journaled");
+        }
+        final int checkedSize = HEADER_SIZE + biderBytes.length;
+        final int recordSize = checkedSize + Integer.BYTES;
+        synchronized (this) {
+            if (position - regionStart + recordSize > regionSize) {
+                nextRegion();
+            }
+            scratch.clear();
+            scratch.putLong(productIdentifier)
+                    .putLong(bidPriceMinor)
+                    .putLong(timestamp.getTime())
+                    .putInt(biderBytes.length)
+                    .put(biderBytes);
+            crc.reset();
+            crc.update(scratch.array(), 0, checkedSize);
+            final int offset = (int) (position - regionStart);
+            region.put(offset, scratch.array(), 0, checkedSize);
+            region.putInt(offset + checkedSize, (int) crc.getValue());
+            position += recordSize;
+            final long pending = ++appended - forced;
+            if (pending == 1 || pending >= groupCommitSize) {
+                notifyAll();
+            }
+            return appended;
+        }
+    }
+
+    /**
+     * Waits until the record of the given sequence, and every record before it, is forced to disk.
+     */
+    private synchronized void awaitDurable(final long sequence) {
+        final long deadline = System.currentTimeMillis() + awaitTimeoutMillis;
+        while (forced < sequence) {
+            final long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new BusinessException("", "Bid journal write timed out");
+            }
+            try {
+                wait(remaining);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException("", e, "Interrupted while writing the bid journal");
+            }
+        }
+    }
+
+    private void flush() {
+        while (running) {
+            final MappedByteBuffer target;
+            final long sequence;
+            synchronized (this) {
+                try {
+                    while (running && appended == forced) {
+                        wait();
+                    }
+                    if (appended - forced < groupCommitSize && groupCommitMillis > 0) {
+                        wait(groupCommitMillis);
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                target = region;
+                sequence = appended;
+            }
+            target.force();
+            synchronized (this) {
+                forced = Math.max(forced, sequence);
+                notifyAll();
+            }
+        }
+    }
+
+    private void nextRegion() {
+        region.force();
+        forced = appended;
+        notifyAll();
+        regionStart = position;
+        try {
+            region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, regionSize);
+        } catch (final IOException e) {
+            throw new BusinessException("", e, "Bid journal could not be extended");
+        }
+    }
+
+    /**
+     * @return the end of the last intact record, records after a missing or corrupt record are ignored.
+     */
+    private long replay() throws IOException {
+        final boolean restore = bidStore.isEmpty();
+        if (!restore) {
+            log.warn("Bid store is not empty, bid journal is not replayed");
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(REPLAY_BUFFER_SIZE);
+        final List<JournaledBid> chunk = new ArrayList<>(REPLAY_CHUNK);
+        final CRC32 replayCrc = new CRC32();
+        long offset = 0;
+        long records = 0;
+        long replayed = 0;
+        long skipped = 0;
+        boolean intact = true;
+        while (intact) {
+            buffer.clear();
+            if (channel.read(buffer, offset) < HEADER_SIZE) {
+                break;
+            }
+            buffer.flip();
+            final long chunkStart = offset;
+            while (buffer.remaining() >= HEADER_SIZE) {
+                final int start = buffer.position();
+                final long productIdentifier = buffer.getLong();
+                final long price = buffer.getLong();
+                final long timestamp = buffer.getLong();
+                final int biderLength = buffer.getInt();
+                if (productIdentifier == 0 || biderLength <= 0 || biderLength > MAX_BIDER_BYTES) {
+                    intact = false;
+                    break;
+                }
+                if (buffer.remaining() < biderLength + Integer.BYTES) {
+                    // the record continues in the next read
+                    break;
+                }
+                final String bider = new String(buffer.array(), buffer.position(), biderLength, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + biderLength);
+                replayCrc.reset();
+                replayCrc.update(buffer.array(), start, HEADER_SIZE + biderLength);
+                if (buffer.getInt() != (int) replayCrc.getValue()) {
+                    intact = false;
+                    break;
+                }
+                offset += buffer.position() - start;
+                records++;
+                chunk.add(new JournaledBid(productIdentifier, price, timestamp, bider));
+            }
+            if (restore && !chunk.isEmpty()) {
+                final int restored = restore(chunk);
+                replayed += restored;
+                skipped += chunk.size() - restored;
+            }
+            chunk.clear();
+            if (offset == chunkStart) {
+                // an incomplete record at the end of the file
+                break;
+            }
+        }
+        log.info("Bid journal {} opened at {} records, {} bids replayed, {} bids of unknown products skipped",
+                path, records, replayed, skipped);
+        return offset;
+    }
+
+    private int restore(final List<JournaledBid> bids) {
+        return transactionTemplate.execute(status -> {
+            final Set<Long> productIdentifiers = new HashSet<>();
+            bids.forEach(bid -> productIdentifiers.add(bid.productIdentifier()));
+            final Set<Long> knownProducts = new HashSet<>();
+            productRepository.findAllById(productIdentifiers).forEach(product -> knownProducts.add(product.getId()));
+            final List<BidPlacedEvent> placedBids = new ArrayList<>(bids.size());
+            for (final JournaledBid bid : bids) {
+                if (knownProducts.contains(bid.productIdentifier())) {
+                    placedBids.add(BidPlacedEvent.builder()
+                            .productIdentifier(bid.productIdentifier())
+                            .bider(bid.bider())
+                            .bidPriceMinor(bid.bidPriceMinor())
+                            .timestamp(new Date(bid.timestamp()))
+                            .build());
+                }
+            }
+            bidStore.appendAll(placedBids);
+            return placedBids.size();
+        });
+    }
+
+    private record JournaledBid(long productIdentifier, long bidPriceMinor, long timestamp, String bider) {
+    }
+
+}
@@ -0,0 +1,169 @@
+package org.deutschebank.auction.biding.service.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.model.Product;
+import org.deutschebank.auction.biding.repository.ProductRepository;
+import org.deutschebank.auction.biding.repository.record.ProductDetail;
+import org.deutschebank.auction.biding.service.event.ProductChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Products of the {@link BidJournal}, which only holds product ids: every committed product change is appended to
+ * {@code biding.journal.product-path} as one JSON line and forced to disk. {@link BidJournal} restores the products
+ * missing from the database with their ids before it replays their bids.
+ */
+@Log4j2
+@Component
+public class ProductJournal {
+
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final boolean enabled;
+    private final Path path;
+
+    private FileChannel channel;
+
+    public ProductJournal(final ProductRepository productRepository,
+                          final DataSource dataSource,
+                          final PlatformTransactionManager transactionManager,
+                          @Value("${biding.journal.enabled}") final boolean enabled,
+                          @Value("${biding.journal.product-path}") final String path) {
+        this.productRepository = productRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.path = Path.of(path);
+    }
+
+    /**
+     * Restores the journaled products that are not in the database and opens the journal for appending.
+     */
+    synchronized void open() throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        final Map<Long, JournaledProduct> products = read();
+        final int restored = restore(products);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        log.info("Product journal {} opened at {} products, {} products restored", path, products.size(), restored);
+    }
+
+    @PreDestroy
+    synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(final ProductChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        final Product product = event.getProduct();
+        try {
+            append(new JournaledProduct(product.getId(), product.getName(), product.getDescription(),
+                    product.getStartPriceMinor(), product.getSold(), product.getSoldPriceMinor(), product.getActive(),
+                    product.getAuthor(), product.getEndsAt()));
+        } catch (final IOException e) {
+            log.error("Product: {} could not be journaled, its bids will not be restored", product.getId(), e);
+        }
+    }
+
+    private synchronized void append(final JournaledProduct product) throws IOException {
+        final byte[] line = (mapper.writeValueAsString(product) + '\n').getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * @return the last journaled state of every product, up to the first incomplete line.
+     */
+    private Map<Long, JournaledProduct> read() throws IOException {
+        final Map<Long, JournaledProduct> products = new LinkedHashMap<>();
+        if (!Files.exists(path)) {
+            return products;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    final JournaledProduct product = mapper.readValue(line, JournaledProduct.class);
+                    products.put(product.id(), product);
+                } catch (final JsonProcessingException e) {
+                    log.warn("Product journal {} ends with an incomplete line, ignoring the rest", path);
+                    break;
+                }
+            }
+        }
+        return products;
+    }
+
+    private int restore(final Map<Long, JournaledProduct> products) {
+        if (products.isEmpty()) {
+            return 0;
+        }
+        return transactionTemplate.execute(status -> {
+            final Set<Long> existing = productRepository.findAllById(products.keySet()).stream()
+                    .map(ProductDetail::getId)
+                    .collect(Collectors.toSet());
+            final List<Object[]> missing = new ArrayList<>();
+            for (final JournaledProduct product : products.values()) {
+                if (!existing.contains(product.id())) {
+                    missing.add(new Object[]{product.id(), product.name(), product.description(),
+                            product.startPriceMinor(), product.sold(), product.soldPriceMinor(), product.active(),
+                            product.author(), product.endsAt() != null ? new Timestamp(product.endsAt().getTime()) : null});
+                }
+            }
+            if (missing.isEmpty()) {
+                return 0;
+            }
+            jdbcTemplate.batchUpdate("insert into product_detail (id, name, description, start_price_minor, sold,"
+                    + " sold_price_minor, active, author, ends_at, version) values (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)", missing);
+            // The pooled optimizer takes a sequence value as the highest id of the next block of
+            // ID_ALLOCATION_SIZE ids, so restarting at the highest id plus one block hands out ids right after it.
+            final long maxIdentifier = jdbcTemplate.queryForObject("select max(id) from product_detail", Long.class);
+            jdbcTemplate.execute("alter sequence product_detail_seq restart with "
+                    + (maxIdentifier + ProductDetail.ID_ALLOCATION_SIZE));
+            return missing.size();
+        });
+    }
+
+    private record JournaledProduct(Long id, String name, String description, Long startPriceMinor, Boolean sold,
+                                    Long soldPriceMinor, Boolean active, String author, Date endsAt) {
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.deutschebank.auction.biding.service.leaderboard;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.model.LeaderboardEntry;
+import org.deutschebank.auction.biding.service.event.AuctionClosedEvent;
+import org.deutschebank.auction.biding.service.event.BidPlacedEvent;
+import org.deutschebank.auction.biding.service.store.BidStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Top {@code biding.leaderboard.size} bids of every open auction, updated after each placed bid and rebuilt from
+ * the bid store on startup.
+ */
+@Log4j2
+@Component
+@DependsOn("bidJournal")
+public class Leaderboards {
+
+    private final BidStore bidStore;
+
+    @Getter
+    private final int size;
+
+    private final Map<Long, TopBids> topBids = new ConcurrentHashMap<>();
+
+    public Leaderboards(final BidStore bidStore,
+                        @Value("${biding.leaderboard.size}") final int size) {
+        this.bidStore = bidStore;
+        this.size = size;
+    }
+
+    @PostConstruct
+    void rebuild() {
+        bidStore.forEachBidOfOpenAuctions((productIdentifier, bider, bidPriceMinor, timestamp) -> {
+            final TopBids board = topBids.computeIfAbsent(productIdentifier, id -> new TopBids(size));
+            board.offer(bider, bidPriceMinor, timestamp);
+        });
+        log.info("Leaderboards rebuilt for {} products", topBids.size());
+    }
+
+    /**
+     * @return the leaderboard of an open auction with bids, or {@code null}.
+     */
+    public List<LeaderboardEntry> getEntries(final Long productIdentifier) {
+        final TopBids board = topBids.get(productIdentifier);
+        return board != null ? board.getEntries() : null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidPlaced(final BidPlacedEvent event) {
+        topBids.computeIfAbsent(event.getProductIdentifier(), id -> new TopBids(size))
+                .offer(event.getBider(), event.getBidPriceMinor(), event.getTimestamp().getTime());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionClosed(final AuctionClosedEvent event) {
+        topBids.remove(event.getProductIdentifier());
+    }
+
+}
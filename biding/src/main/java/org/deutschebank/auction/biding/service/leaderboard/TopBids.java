@@ -0,0 +1,62 @@
+package org.deutschebank.auction.biding.service.leaderboard;
+
+import org.deutschebank.auction.biding.model.LeaderboardEntry;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The highest bids of one product kept in parallel arrays sorted by price descending and time ascending, so
+ * offering a bid only shifts array slots.
+ */
+class TopBids {
+
+    private final long[] prices;
+    private final long[] timestamps;
+    private final String[] biders;
+    private int size;
+
+    TopBids(final int capacity) {
+        this.prices = new long[capacity];
+        this.timestamps = new long[capacity];
+        this.biders = new String[capacity];
+    }
+
+    synchronized boolean offer(final String bider, final long price, final long timestamp) {
+        int position = size;
+        while (position > 0 && ranksBefore(price, timestamp, position - 1)) {
+            position--;
+        }
+        if (position == prices.length) {
+            return false;
+        }
+        final int moved = Math.min(size, prices.length - 1) - position;
+        System.arraycopy(prices, position, prices, position + 1, moved);
+        System.arraycopy(timestamps, position, timestamps, position + 1, moved);
+        System.arraycopy(biders, position, biders, position + 1, moved);
+        prices[position] = price;
+        timestamps[position] = timestamp;
+        biders[position] = bider;
+        size = Math.min(size + 1, prices.length);
+        return true;
+    }
+
+    synchronized List<LeaderboardEntry> getEntries() {
+        final List<LeaderboardEntry> entries = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            entries.add(LeaderboardEntry.builder()
+                    .rank(index + 1)
+                    .bider(biders[index])
+                    .bidPriceMinor(prices[index])
+                    .timestamp(new Date(timestamps[index]))
+                    .build());
+        }
+        return entries;
+    }
+
+    private boolean ranksBefore(final long price, final long timestamp, final int index) {
+        return price > prices[index] || (price == prices[index] && timestamp < timestamps[index]);
+    }
+
+}
@@ -0,0 +1,61 @@
+package org.deutschebank.auction.biding.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.deutschebank.auction.biding.model.BidStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Timers per stage of the bid operations ({@code biding.operation.stage}) with percentile histograms, and counters
+ * of bid outcomes ({@code biding.bid.outcome}) and rejection reasons ({@code biding.bid.rejection}).
+ */
+@Component
+@RequiredArgsConstructor
+public class BidMetrics {
+
+    public static final String PLACE_BID = "placeBid";
+    public static final String SOLD_PRODUCT = "soldProduct";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public <T> T time(final String operation, final String stage, final Supplier<T> step) {
+        return stageTimer(operation, stage).record(step);
+    }
+
+    public void time(final String operation, final String stage, final Runnable step) {
+        stageTimer(operation, stage).record(step);
+    }
+
+    public void outcome(final BidStatus status) {
+        counter("biding.bid.outcome", "status", status.name()).increment();
+    }
+
+    public void rejected(final String reason) {
+        counter("biding.bid.rejection", "reason", reason).increment();
+    }
+
+    private Timer stageTimer(final String operation, final String stage) {
+        return stageTimers.computeIfAbsent(operation + '.' + stage, key -> Timer.builder("biding.operation.stage")
+                .description("Time spent per stage of the bid operations")
+                .tag("operation", operation)
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private Counter counter(final String name, final String tag, final String value) {
+        return counters.computeIfAbsent(name + '.' + value, key -> Counter.builder(name)
+                .tag(tag, value)
+                .register(meterRegistry));
+    }
+
+}
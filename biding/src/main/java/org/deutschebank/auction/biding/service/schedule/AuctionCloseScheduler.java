@@ -0,0 +1,206 @@
+package org.deutschebank.auction.biding.service.schedule;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.exception.BusinessException;
+import org.deutschebank.auction.biding.model.Product;
+import org.deutschebank.auction.biding.repository.ProductRepository;
+import org.deutschebank.auction.biding.repository.record.ProductDetail;
+import org.deutschebank.auction.biding.service.BidingService;
+import org.deutschebank.auction.biding.service.event.AuctionClosedEvent;
+import org.deutschebank.auction.biding.service.event.ProductChangedEvent;
+import org.deutschebank.auction.biding.service.sequencing.ProductLanes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closes auctions at their {@code endsAt} on behalf of the author. A ticker thread advances a hierarchical
+ * {@link TimingWheel} every {@code biding.auction-close.tick-ms}, auctions that ended are closed in batches of
+ * {@code biding.auction-close.batch-size} on {@code biding.auction-close.concurrency} threads. With
+ * {@code biding.lanes.enabled} each close goes through the lane of its product so it is ordered after the bids
+ * already queued, otherwise it runs on the closer thread. Closes are never early: end times are rounded up to the
+ * next tick, and the product is checked again when the close runs. Only active products are scheduled, a product
+ * is scheduled again when it is activated. A close that fails is scheduled again, with a delay doubling from one tick
+ * up to {@link #MAX_RETRY_DELAY_MILLIS}, until it succeeds or the product is gone.
+ */
+@Log4j2
+@Component
+public class AuctionCloseScheduler {
+
+    static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private final BidingService bidingService;
+    private final ProductRepository productRepository;
+    private final ProductLanes productLanes;
+    private final AuctionDeadlines auctionDeadlines;
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final int batchSize;
+    private final int concurrency;
+
+    private final Queue<ScheduledClose> scheduled = new ConcurrentLinkedQueue<>();
+
+    private ExecutorService closers;
+    private Thread ticker;
+    private volatile boolean running;
+
+    public AuctionCloseScheduler(final BidingService bidingService,
+                                 final ProductRepository productRepository,
+                                 final ProductLanes productLanes,
+                                 final AuctionDeadlines auctionDeadlines,
+                                 @Value("${biding.auction-close.tick-ms}") final long tickMillis,
+                                 @Value("${biding.auction-close.wheel-size}") final int wheelSize,
+                                 @Value("${biding.auction-close.batch-size}") final int batchSize,
+                                 @Value("${biding.auction-close.concurrency}") final int concurrency) {
+        this.bidingService = bidingService;
+        this.productRepository = productRepository;
+        this.productLanes = productLanes;
+        this.auctionDeadlines = auctionDeadlines;
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+    }
+
+    @PostConstruct
+    void start() {
+        final List<ProductDetail> products = productRepository.findByEndsAtNotNullAndSoldFalse();
+        int scheduledCloses = 0;
+        for (final ProductDetail product : products) {
+            if (Boolean.TRUE.equals(product.getActive())) {
+                schedule(product.getId(), product.getEndsAt());
+                scheduledCloses++;
+            }
+        }
+        log.info("{} auction closes scheduled", scheduledCloses);
+
+        final AtomicInteger closerCount = new AtomicInteger();
+        closers = Executors.newFixedThreadPool(concurrency, task -> {
+            final Thread closer = new Thread(task, "auction-closer-" + closerCount.incrementAndGet());
+            closer.setDaemon(true);
+            return closer;
+        });
+        running = true;
+        ticker = new Thread(this::tick, "auction-close-ticker");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        ticker.interrupt();
+        closers.shutdown();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(final ProductChangedEvent event) {
+        final Product product = event.getProduct();
+        if (product.getEndsAt() != null && !Boolean.TRUE.equals(product.getSold())
+                && Boolean.TRUE.equals(product.getActive())) {
+            schedule(product.getId(), product.getEndsAt());
+        } else {
+            auctionDeadlines.remove(product.getId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionClosed(final AuctionClosedEvent event) {
+        auctionDeadlines.remove(event.getProductIdentifier());
+    }
+
+    private void schedule(final Long productIdentifier, final Date endsAt) {
+        if (auctionDeadlines.register(productIdentifier, endsAt)) {
+            scheduled.add(new ScheduledClose(productIdentifier, roundUpToTick(endsAt.getTime())));
+        }
+    }
+
+    /**
+     * @return the deadline of the retry after {@code attempts} failed closes, one tick after {@code now} for the
+     * first failure and twice as long for every further one, at most {@link #MAX_RETRY_DELAY_MILLIS}.
+     */
+    long retryDeadline(final long now, final int attempts) {
+        final long delay = tickMillis << Math.min(Math.max(attempts - 1, 0), 30);
+        return roundUpToTick(now + Math.min(delay, MAX_RETRY_DELAY_MILLIS));
+    }
+
+    private long roundUpToTick(final long time) {
+        return Math.floorDiv(time + tickMillis - 1, tickMillis) * tickMillis;
+    }
+
+    private void tick() {
+        final TimingWheel wheel = new TimingWheel(tickMillis, wheelSize, System.currentTimeMillis());
+        final List<ScheduledClose> due = new ArrayList<>();
+        while (running) {
+            ScheduledClose close;
+            while ((close = scheduled.poll()) != null) {
+                if (!wheel.add(close)) {
+                    due.add(close);
+                }
+            }
+            wheel.advanceTo(System.currentTimeMillis(), due::add);
+            if (!due.isEmpty()) {
+                dispatch(due);
+                due.clear();
+            }
+            try {
+                Thread.sleep(tickMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void dispatch(final List<ScheduledClose> due) {
+        log.info("{} auctions ended, closing in batches of {}", due.size(), batchSize);
+        for (int from = 0; from < due.size(); from += batchSize) {
+            final List<ScheduledClose> batch = List.copyOf(due.subList(from, Math.min(from + batchSize, due.size())));
+            closers.execute(() -> close(batch));
+        }
+    }
+
+    private void close(final List<ScheduledClose> batch) {
+        for (final ScheduledClose close : batch) {
+            final Long productIdentifier = close.productIdentifier();
+            try {
+                productLanes.execute(productIdentifier, () -> bidingService.closeExpiredAuction(productIdentifier));
+            } catch (final BusinessException e) {
+                if (!(e.getCause() instanceof RejectedExecutionException)) {
+                    retry(close, e);
+                    continue;
+                }
+                log.warn("Lane of product: {} is busy, retrying auction close on the next tick", productIdentifier);
+                scheduled.add(new ScheduledClose(productIdentifier, close.deadline() + tickMillis, close.attempts()));
+            } catch (final EntityNotFoundException e) {
+                log.warn("Product: {} not found, its auction close is dropped", productIdentifier);
+                auctionDeadlines.remove(productIdentifier);
+            } catch (final Exception e) {
+                retry(close, e);
+            }
+        }
+    }
+
+    private void retry(final ScheduledClose close, final Exception e) {
+        final int attempts = close.attempts() + 1;
+        final long deadline = retryDeadline(System.currentTimeMillis(), attempts);
+        log.error("Error occurred while closing auction of product: {}, attempt: {}, retrying at: {}",
+                close.productIdentifier(), attempts, new Date(deadline), e);
+        scheduled.add(new ScheduledClose(close.productIdentifier(), deadline, attempts));
+    }
+
+}
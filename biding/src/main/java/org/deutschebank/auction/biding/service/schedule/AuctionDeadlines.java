@@ -0,0 +1,34 @@
+package org.deutschebank.auction.biding.service.schedule;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * End times of scheduled auctions, so bids after the end are rejected without waiting for the close to run.
+ */
+@Component
+public class AuctionDeadlines {
+
+    private final Map<Long, Long> deadlines = new ConcurrentHashMap<>();
+
+    /**
+     * @return {@code true} if the end time is new or changed.
+     */
+    public boolean register(final Long productIdentifier, final Date endsAt) {
+        final Long previous = deadlines.put(productIdentifier, endsAt.getTime());
+        return previous == null || previous != endsAt.getTime();
+    }
+
+    public boolean isExpired(final Long productIdentifier, final long nowMillis) {
+        final Long deadline = deadlines.get(productIdentifier);
+        return deadline != null && nowMillis >= deadline;
+    }
+
+    public void remove(final Long productIdentifier) {
+        deadlines.remove(productIdentifier);
+    }
+
+}
@@ -0,0 +1,13 @@
+package org.deutschebank.auction.biding.service.schedule;
+
+/**
+ * Close of an auction due at {@code deadline}, in epoch millis rounded up to a tick of the lowest wheel.
+ * {@code attempts} counts the closes of the auction that already failed.
+ */
+record ScheduledClose(long productIdentifier, long deadline, int attempts) {
+
+    ScheduledClose(final long productIdentifier, final long deadline) {
+        this(productIdentifier, deadline, 0);
+    }
+
+}
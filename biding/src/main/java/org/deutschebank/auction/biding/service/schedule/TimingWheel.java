@@ -0,0 +1,81 @@
+package org.deutschebank.auction.biding.service.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: {@code wheelSize} buckets of {@code tickMillis} each, closes beyond the span of the
+ * wheel go to an overflow wheel whose tick is the whole span of this one. Adding a close and expiring a tick are
+ * constant time no matter how many closes are pending, closes cascade down to finer wheels as time advances.
+ * Not thread safe, owned by the ticker thread of {@link AuctionCloseScheduler}.
+ */
+class TimingWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long interval;
+    private final List<List<ScheduledClose>> buckets;
+
+    private long currentTime;
+    private TimingWheel overflow;
+
+    TimingWheel(final long tickMillis, final int wheelSize, final long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.interval = tickMillis * wheelSize;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.currentTime = startMillis - startMillis % tickMillis;
+    }
+
+    /**
+     * @return {@code false} if the close is already due and was not added.
+     */
+    boolean add(final ScheduledClose close) {
+        final long deadline = close.deadline();
+        if (deadline < currentTime + tickMillis) {
+            return false;
+        }
+        if (deadline < currentTime + interval) {
+            buckets.get(slot(deadline)).add(close);
+            return true;
+        }
+        if (overflow == null) {
+            overflow = new TimingWheel(interval, wheelSize, currentTime);
+        }
+        return overflow.add(close);
+    }
+
+    /**
+     * Advances the wheel tick by tick up to {@code timeMillis}, passing every close that became due to
+     * {@code expired}.
+     */
+    void advanceTo(final long timeMillis, final Consumer<ScheduledClose> expired) {
+        while (timeMillis >= currentTime + tickMillis) {
+            currentTime += tickMillis;
+            if (overflow != null) {
+                overflow.advanceTo(currentTime, close -> reinsert(close, expired));
+            }
+            final int slot = slot(currentTime);
+            final List<ScheduledClose> bucket = buckets.get(slot);
+            if (!bucket.isEmpty()) {
+                buckets.set(slot, new ArrayList<>());
+                bucket.forEach(close -> reinsert(close, expired));
+            }
+        }
+    }
+
+    private void reinsert(final ScheduledClose close, final Consumer<ScheduledClose> expired) {
+        if (!add(close)) {
+            expired.accept(close);
+        }
+    }
+
+    private int slot(final long time) {
+        return (int) ((time / tickMillis) % wheelSize);
+    }
+
+}
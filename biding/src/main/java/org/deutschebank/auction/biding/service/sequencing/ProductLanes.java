@@ -0,0 +1,107 @@
+package org.deutschebank.auction.biding.service.sequencing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.deutschebank.auction.biding.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Routes every mutation of a product to one single-threaded lane chosen by product id. Bids and auction close of
+ * the same product are applied one after another in arrival order while different products run in parallel.
+ */
+@Log4j2
+@Component
+public class ProductLanes {
+
+    private static final ThreadLocal<Integer> CURRENT_LANE = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final ThreadPoolExecutor[] lanes;
+
+    public ProductLanes(@Value("${biding.lanes.enabled}") final boolean enabled,
+                        @Value("${biding.lanes.count}") final int count,
+                        @Value("${biding.lanes.queue-capacity}") final int queueCapacity,
+                        final MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        final int laneCount = count > 0 ? count : Runtime.getRuntime().availableProcessors();
+        this.lanes = new ThreadPoolExecutor[enabled ? laneCount : 0];
+        for (int index = 0; index < lanes.length; index++) {
+            final int lane = index;
+            lanes[lane] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                final Thread thread = new Thread(() -> {
+                    CURRENT_LANE.set(lane);
+                    runnable.run();
+                }, "product-lane-" + lane);
+                thread.setDaemon(true);
+                return thread;
+            });
+            Gauge.builder("biding.lanes.queue.depth", lanes[lane], executor -> executor.getQueue().size())
+                    .tag("lane", String.valueOf(lane))
+                    .description("Tasks waiting in the product lane")
+                    .register(meterRegistry);
+        }
+        if (enabled) {
+            log.info("Product lanes enabled with {} lanes", laneCount);
+        }
+    }
+
+    public <T> T execute(final Long productIdentifier, final Supplier<T> task) {
+        if (!enabled || productIdentifier == null) {
+            return task.get();
+        }
+        final int lane = laneOf(productIdentifier);
+        if (Integer.valueOf(lane).equals(CURRENT_LANE.get())) {
+            return task.get();
+        }
+        final Future<T> result;
+        try {
+            result = lanes[lane].submit(task::get);
+        } catch (final RejectedExecutionException e) {
+            log.warn("Product lane: {} is full, rejecting request for product: {}", lane, productIdentifier);
+            throw new BusinessException("", e, "Too many requests for this product, please try again");
+        }
+        try {
+            return result.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException("", e.getCause(), "Error while processing product request");
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("", e, "Interrupted while processing product request");
+        }
+    }
+
+    public int[] getQueueDepths() {
+        final int[] depths = new int[lanes.length];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            depths[lane] = lanes[lane].getQueue().size();
+        }
+        return depths;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (final ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    private int laneOf(final Long productIdentifier) {
+        return Math.floorMod(productIdentifier.longValue(), lanes.length);
+    }
+
+}
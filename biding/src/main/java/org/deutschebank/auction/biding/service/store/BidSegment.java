@@ -0,0 +1,210 @@
+package org.deutschebank.auction.biding.service.store;
+
+import org.deutschebank.auction.biding.exception.InvalidRequestException;
+import org.deutschebank.auction.biding.model.Bid;
+import org.deutschebank.auction.biding.service.book.LeadingBid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only bid events of one product in commit order, held in parallel arrays, followed by an optional
+ * close event. The snapshot is the index of the leading bid among the first {@code snapshotSize} bids, and
+ * {@code ranked} holds the indexes of all bids in rank order for paging.
+ * <p>
+ * A bid is reserved while its transaction is open and applied once it commits, a close is begun with the
+ * transaction and completed once it commits. Bids cannot be reserved once a close has begun, and a close waits for
+ * the bids still reserved so its winner is always a committed bid.
+ */
+final class BidSegment {
+
+    private final int snapshotInterval;
+
+    private long[] ids = new long[8];
+    private String[] biders = new String[8];
+    private long[] prices = new long[8];
+    private long[] timestamps = new long[8];
+    private int[] ranked = new int[8];
+    private int size;
+
+    private final Map<Long, Bid> reserved = new LinkedHashMap<>();
+    private boolean closing;
+    private boolean closed;
+
+    private int snapshotSize;
+    private int snapshotLeader = -1;
+
+    BidSegment(final int snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    synchronized Bid reserve(final long id, final String bider, final long price, final long timestamp) {
+        if (closing || closed) {
+            throw new InvalidRequestException("", "Auction has ended");
+        }
+        final Bid bid = new Bid(id, bider, price, new Date(timestamp));
+        reserved.put(id, bid);
+        return bid;
+    }
+
+    synchronized void apply(final long id) {
+        final Bid bid = reserved.remove(id);
+        if (bid != null) {
+            append(bid.getId(), bid.getBider(), bid.getBidPriceMinor(), bid.getTimestamp().getTime());
+        }
+        notifyAll();
+    }
+
+    synchronized void discard(final long id) {
+        reserved.remove(id);
+        notifyAll();
+    }
+
+    /**
+     * @return the leading applied bid, once the bids reserved by other transactions are applied or discarded.
+     */
+    synchronized LeadingBid beginClose() {
+        closing = true;
+        try {
+            StoreTransactions.awaitReservations(this, reserved);
+        } catch (final RuntimeException e) {
+            closing = false;
+            throw e;
+        }
+        return toLeadingBid(leader());
+    }
+
+    synchronized void completeClose() {
+        closed = true;
+    }
+
+    synchronized void cancelClose() {
+        closing = false;
+    }
+
+    synchronized int count() {
+        return size;
+    }
+
+    synchronized LeadingBid getLeadingBidIfOpen() {
+        return closed ? null : toLeadingBid(leader());
+    }
+
+    synchronized void forEachBidIfOpen(final Long productIdentifier, final BidStore.BidVisitor visitor) {
+        if (closed) {
+            return;
+        }
+        for (int index = 0; index < size; index++) {
+            visitor.visit(productIdentifier, biders[index], prices[index], timestamps[index]);
+        }
+    }
+
+    synchronized List<Bid> findBids(final Bid after, final int limit) {
+        int from = 0;
+        if (after != null) {
+            // first rank position that comes after the cursor
+            int high = size;
+            while (from < high) {
+                final int middle = (from + high) >>> 1;
+                if (compare(ranked[middle], after.getBidPriceMinor(), after.getTimestamp().getTime(), after.getId()) <= 0) {
+                    from = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+        }
+        final int to = Math.min(size, from + limit);
+        final List<Bid> bids = new ArrayList<>(to - from);
+        for (int position = from; position < to; position++) {
+            bids.add(toBid(ranked[position]));
+        }
+        return bids;
+    }
+
+    private void append(final long id, final String bider, final long price, final long timestamp) {
+        if (size == ids.length) {
+            final int capacity = size * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            biders = Arrays.copyOf(biders, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            ranked = Arrays.copyOf(ranked, capacity);
+        }
+        ids[size] = id;
+        biders[size] = bider;
+        prices[size] = price;
+        timestamps[size] = timestamp;
+        rank(size);
+        size++;
+        if (size - snapshotSize >= snapshotInterval) {
+            snapshotLeader = leader();
+            snapshotSize = size;
+        }
+    }
+
+    /**
+     * Inserts the bid at {@code index} into {@code ranked} after every bid that ranks before it.
+     */
+    private void rank(final int index) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (compare(ranked[middle], prices[index], timestamps[index], ids[index]) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        System.arraycopy(ranked, low, ranked, low + 1, size - low);
+        ranked[low] = index;
+    }
+
+    /**
+     * Rank order: highest price first, equal prices in the order they were placed.
+     */
+    private int compare(final int index, final long price, final long timestamp, final long id) {
+        if (prices[index] != price) {
+            return prices[index] > price ? -1 : 1;
+        }
+        if (timestamps[index] != timestamp) {
+            return timestamps[index] < timestamp ? -1 : 1;
+        }
+        return Long.compare(ids[index], id);
+    }
+
+    /**
+     * Folds the bids placed after the snapshot into the snapshot leader, a later bid leads only with a strictly
+     * higher price.
+     */
+    private int leader() {
+        int leader = snapshotLeader;
+        for (int index = snapshotSize; index < size; index++) {
+            if (leader < 0 || prices[index] > prices[leader]
+                    || (prices[index] == prices[leader] && timestamps[index] < timestamps[leader])) {
+                leader = index;
+            }
+        }
+        return leader;
+    }
+
+    private Bid toBid(final int index) {
+        return new Bid(ids[index], biders[index], prices[index], new Date(timestamps[index]));
+    }
+
+    private LeadingBid toLeadingBid(final int index) {
+        if (index < 0) {
+            return null;
+        }
+        return LeadingBid.builder()
+                .bider(biders[index])
+                .bidPriceMinor(prices[index])
+                .timestamp(timestamps[index])
+                .build();
+    }
+
+}
@@ -0,0 +1,56 @@
+package org.deutschebank.auction.biding.service.store;
+
+import org.deutschebank.auction.biding.model.Bid;
+import org.deutschebank.auction.biding.service.book.LeadingBid;
+import org.deutschebank.auction.biding.service.event.BidPlacedEvent;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Storage of placed bids, selected with {@code biding.store.type}: {@code jpa} keeps every bid as a row of
+ * {@code biding_list}, {@code event-sourced} keeps bids and auction close as events per product in memory and
+ * {@code off-heap} keeps them in columns outside of the Java heap.
+ */
+public interface BidStore {
+
+    /**
+     * @return the stored bid with its id.
+     */
+    Bid append(BidPlacedEvent bid);
+
+    void appendAll(List<BidPlacedEvent> bids);
+
+    /**
+     * Records the end of an auction.
+     *
+     * @return the winning bid, or {@code null} if the product has no bids.
+     */
+    LeadingBid close(Long productIdentifier);
+
+    /**
+     * Bids of a product from the highest to the lowest price, equal prices in the order they were placed,
+     * starting after the given bid ({@code null} for the first page). A store may only keep the winning bid of a
+     * closed auction.
+     */
+    List<Bid> findBids(Long productIdentifier, Bid after, int limit);
+
+    long countBids(Long productIdentifier);
+
+    Map<Long, LeadingBid> getLeadingBidsOfOpenAuctions();
+
+    /**
+     * Visits every bid of an auction that is not closed.
+     */
+    void forEachBidOfOpenAuctions(BidVisitor visitor);
+
+    boolean isEmpty();
+
+    @FunctionalInterface
+    interface BidVisitor {
+
+        void visit(Long productIdentifier, String bider, long bidPriceMinor, long timestamp);
+
+    }
+
+}
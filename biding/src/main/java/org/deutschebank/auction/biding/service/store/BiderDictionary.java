@@ -0,0 +1,62 @@
+package org.deutschebank.auction.biding.service.store;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Surrogate ids of bider tokens, every token is kept once however many bids it placed. Each id counts the bids of
+ * open auctions that refer to it, a token is dropped once its last bid is released and its id is reused, so the
+ * dictionary is bounded by the biders of open auctions.
+ */
+final class BiderDictionary {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private volatile String[] names = new String[1024];
+    private int[] references = new int[1024];
+    private int[] released = new int[64];
+    private int releasedCount;
+    private int size;
+
+    /**
+     * @return the id of the token, counting one more bid that refers to it.
+     */
+    synchronized int acquire(final String bider) {
+        Integer id = ids.get(bider);
+        if (id == null) {
+            id = releasedCount > 0 ? released[--releasedCount] : size++;
+            if (id == names.length) {
+                names = Arrays.copyOf(names, id * 2);
+                references = Arrays.copyOf(references, id * 2);
+            }
+            names[id] = bider;
+            ids.put(bider, id);
+        }
+        references[id]++;
+        return id;
+    }
+
+    synchronized void release(final int id) {
+        if (--references[id] > 0) {
+            return;
+        }
+        ids.remove(names[id]);
+        names[id] = null;
+        if (releasedCount == released.length) {
+            released = Arrays.copyOf(released, releasedCount * 2);
+        }
+        released[releasedCount++] = id;
+    }
+
+    /**
+     * Only called for ids of written bids, which are published through the lock of their product's columns.
+     */
+    String nameOf(final int id) {
+        return names[id];
+    }
+
+    synchronized int size() {
+        return ids.size();
+    }
+
+}
@@ -0,0 +1,96 @@
+package org.deutschebank.auction.biding.service.store;
+
+import org.deutschebank.auction.biding.model.Bid;
+import org.deutschebank.auction.biding.service.book.LeadingBid;
+import org.deutschebank.auction.biding.service.event.BidPlacedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bids and auction close as immutable events in one in-memory segment per product. Each segment snapshots its
+ * leading bid every {@code biding.store.snapshot-interval} bids, so the winner of an auction is folded from the
+ * snapshot and the bids placed after it, without a query. Bids and closes become visible once their transaction
+ * commits and are dropped if it rolls back, bids of an auction that is being closed are rejected. Bids are kept
+ * across restarts only through the bid journal ({@code biding.journal.enabled}).
+ */
+@Component
+@ConditionalOnProperty(name = "biding.store.type", havingValue = "event-sourced")
+public class EventSourcedBidStore implements BidStore {
+
+    private final int snapshotInterval;
+
+    private final Map<Long, BidSegment> segments = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public EventSourcedBidStore(@Value("${biding.store.snapshot-interval}") final int snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public Bid append(final BidPlacedEvent bid) {
+        final BidSegment segment = segment(bid.getProductIdentifier());
+        final long id = sequence.incrementAndGet();
+        final Bid reserved = segment.reserve(id, bid.getBider(), bid.getBidPriceMinor(), bid.getTimestamp().getTime());
+        StoreTransactions.onCompletion(() -> segment.apply(id), () -> segment.discard(id));
+        return reserved;
+    }
+
+    @Override
+    public void appendAll(final List<BidPlacedEvent> bids) {
+        bids.forEach(this::append);
+    }
+
+    @Override
+    public LeadingBid close(final Long productIdentifier) {
+        final BidSegment segment = segment(productIdentifier);
+        final LeadingBid winner = segment.beginClose();
+        StoreTransactions.onCompletion(segment::completeClose, segment::cancelClose);
+        return winner;
+    }
+
+    @Override
+    public List<Bid> findBids(final Long productIdentifier, final Bid after, final int limit) {
+        final BidSegment segment = segments.get(productIdentifier);
+        return segment != null ? segment.findBids(after, limit) : List.of();
+    }
+
+    @Override
+    public long countBids(final Long productIdentifier) {
+        final BidSegment segment = segments.get(productIdentifier);
+        return segment != null ? segment.count() : 0;
+    }
+
+    @Override
+    public Map<Long, LeadingBid> getLeadingBidsOfOpenAuctions() {
+        final Map<Long, LeadingBid> leadingBids = new HashMap<>();
+        segments.forEach((productIdentifier, segment) -> {
+            final LeadingBid leadingBid = segment.getLeadingBidIfOpen();
+            if (leadingBid != null) {
+                leadingBids.put(productIdentifier, leadingBid);
+            }
+        });
+        return leadingBids;
+    }
+
+    @Override
+    public void forEachBidOfOpenAuctions(final BidVisitor visitor) {
+        segments.forEach((productIdentifier, segment) -> segment.forEachBidIfOpen(productIdentifier, visitor));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return sequence.get() == 0;
+    }
+
+    private BidSegment segment(final Long productIdentifier) {
+        return segments.computeIfAbsent(productIdentifier, id -> new BidSegment(snapshotInterval));
+    }
+
+}
@@ -0,0 +1,121 @@
+package org.deutschebank.auction.biding.service.store;
+
+import org.deutschebank.auction.biding.model.Bid;
+import org.deutschebank.auction.biding.repository.BidingRepository;
+import org.deutschebank.auction.biding.repository.ProductRepository;
+import org.deutschebank.auction.biding.repository.record.Biding;
+import org.deutschebank.auction.biding.service.book.LeadingBid;
+import org.deutschebank.auction.biding.service.book.OrderBook;
+import org.deutschebank.auction.biding.service.event.BidPlacedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Bids as rows of {@code biding_list}, joining the transaction of the caller.
+ */
+@Component
+@ConditionalOnProperty(name = "biding.store.type", havingValue = "jpa", matchIfMissing = true)
+public class JpaBidStore implements BidStore {
+
+    private final BidingRepository bidingRepository;
+    private final ProductRepository productRepository;
+    private final OrderBook orderBook;
+
+    /**
+     * The order book is seeded from this store, so it is resolved lazily.
+     */
+    public JpaBidStore(final BidingRepository bidingRepository,
+                       final ProductRepository productRepository,
+                       @Lazy final OrderBook orderBook) {
+        this.bidingRepository = bidingRepository;
+        this.productRepository = productRepository;
+        this.orderBook = orderBook;
+    }
+
+    @Override
+    @Transactional
+    public Bid append(final BidPlacedEvent bid) {
+        final Biding recordedBid = bidingRepository.save(mapToRecord(bid));
+        return new Bid(recordedBid.getId(), recordedBid.getBider(), recordedBid.getBidPriceMinor(),
+                recordedBid.getTimestamp());
+    }
+
+    @Override
+    @Transactional
+    public void appendAll(final List<BidPlacedEvent> bids) {
+        bidingRepository.saveAll(bids.stream().map(this::mapToRecord).toList());
+    }
+
+    /**
+     * The product row itself is marked as sold by the caller, the winner is the leading bid the order book keeps
+     * after every committed bid, so closing does not read {@code biding_list}.
+     */
+    @Override
+    public LeadingBid close(final Long productIdentifier) {
+        return orderBook.getLeadingBid(productIdentifier);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Bid> findBids(final Long productIdentifier, final Bid after, final int limit) {
+        final PageRequest page = PageRequest.ofSize(limit);
+        if (after == null) {
+            return bidingRepository.findBids(productIdentifier, page);
+        }
+        return bidingRepository.findBidsAfter(productIdentifier, after.getBidPriceMinor(), after.getTimestamp(),
+                after.getId(), page);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countBids(final Long productIdentifier) {
+        return bidingRepository.countByProductDetailId(productIdentifier);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, LeadingBid> getLeadingBidsOfOpenAuctions() {
+        final Map<Long, LeadingBid> leadingBids = new HashMap<>();
+        for (final Biding bid : bidingRepository.findLeadingBidsOfOpenAuctions()) {
+            leadingBids.put(bid.getProductDetail().getId(), LeadingBid.builder()
+                    .bider(bid.getBider())
+                    .bidPriceMinor(bid.getBidPriceMinor())
+                    .timestamp(bid.getTimestamp().getTime())
+                    .build());
+        }
+        return leadingBids;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachBidOfOpenAuctions(final BidVisitor visitor) {
+        try (Stream<Object[]> bids = bidingRepository.streamBidsOfOpenAuctions()) {
+            bids.forEach(bid -> visitor.visit((Long) bid[0], (String) bid[1], (Long) bid[2], ((Date) bid[3]).getTime()));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return bidingRepository.count() == 0;
+    }
+
+    private Biding mapToRecord(final BidPlacedEvent bid) {
+        final Biding bidingRecord = new Biding();
+        bidingRecord.setTimestamp(bid.getTimestamp());
+        bidingRecord.setBidPriceMinor(bid.getBidPriceMinor());
+        bidingRecord.setBider(bid.getBider());
+        bidingRecord.setProductDetail(productRepository.getReferenceById(bid.getProductIdentifier()));
+        return bidingRecord;
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.deutschebank.auction.biding.service.store;
+
+import org.deutschebank.auction.biding.model.Bid;
+import org.deutschebank.auction.biding.service.book.LeadingBid;
+import org.deutschebank.auction.biding.service.event.BidPlacedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bids in off-heap columns per product ({@code biding.store.type=off-heap}): price, time, bider surrogate id and
+ * bid id take 32 bytes per bid outside of the Java heap, bider tokens are kept once in a dictionary. Like the
+ * event-sourced store, bids and closes become visible once their transaction commits, bids of an auction that is
+ * being closed are rejected and the store is kept across restarts only through the bid journal. Closing an auction
+ * releases its columns, the winning bid is the only bid of a closed auction that can still be read.
+ */
+@Component
+@ConditionalOnProperty(name = "biding.store.type", havingValue = "off-heap")
+public class OffHeapBidStore implements BidStore {
+
+    private final int initialCapacity;
+
+    private final Map<Long, ProductBidColumns> products = new ConcurrentHashMap<>();
+    private final BiderDictionary dictionary = new BiderDictionary();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public OffHeapBidStore(@Value("${biding.store.off-heap.initial-capacity}") final int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+    }
+
+    @Override
+    public Bid append(final BidPlacedEvent bid) {
+        final ProductBidColumns columns = columns(bid.getProductIdentifier());
+        final long id = sequence.incrementAndGet();
+        final Bid reserved = columns.reserve(id, bid.getBider(), bid.getBidPriceMinor(), bid.getTimestamp().getTime());
+        StoreTransactions.onCompletion(() -> columns.apply(id, dictionary), () -> columns.discard(id));
+        return reserved;
+    }
+
+    @Override
+    public void appendAll(final List<BidPlacedEvent> bids) {
+        bids.forEach(this::append);
+    }
+
+    @Override
+    public LeadingBid close(final Long productIdentifier) {
+        final ProductBidColumns columns = columns(productIdentifier);
+        final LeadingBid winner = columns.beginClose(dictionary);
+        StoreTransactions.onCompletion(() -> columns.completeClose(dictionary), columns::cancelClose);
+        return winner;
+    }
+
+    @Override
+    public List<Bid> findBids(final Long productIdentifier, final Bid after, final int limit) {
+        final ProductBidColumns columns = products.get(productIdentifier);
+        return columns != null ? columns.findBids(after, limit, dictionary) : List.of();
+    }
+
+    @Override
+    public long countBids(final Long productIdentifier) {
+        final ProductBidColumns columns = products.get(productIdentifier);
+        return columns != null ? columns.count() : 0;
+    }
+
+    @Override
+    public Map<Long, LeadingBid> getLeadingBidsOfOpenAuctions() {
+        final Map<Long, LeadingBid> leadingBids = new HashMap<>();
+        products.forEach((productIdentifier, columns) -> {
+            final LeadingBid leadingBid = columns.getLeadingBidIfOpen(dictionary);
+            if (leadingBid != null) {
+                leadingBids.put(productIdentifier, leadingBid);
+            }
+        });
+        return leadingBids;
+    }
+
+    @Override
+    public void forEachBidOfOpenAuctions(final BidVisitor visitor) {
+        products.forEach((productIdentifier, columns) -> columns.forEachBidIfOpen(productIdentifier, dictionary, visitor));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return sequence.get() == 0;
+    }
+
+    int countBiders() {
+        return dictionary.size();
+    }
+
+    private ProductBidColumns columns(final Long productIdentifier) {
+        return products.computeIfAbsent(productIdentifier, id -> new ProductBidColumns(initialCapacity));
+    }
+
+}
@@ -0,0 +1,247 @@
+package org.deutschebank.auction.biding.service.store;
+
+import org.deutschebank.auction.biding.exception.InvalidRequestException;
+import org.deutschebank.auction.biding.model.Bid;
+import org.deutschebank.auction.biding.service.book.LeadingBid;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bids of one product in direct buffers, one column per field (price, time, bider id and bid id) in arrival
+ * order, plus a rank column holding the rows from the lowest to the highest bid. Bids normally arrive with a
+ * rising price, so a new row is usually appended at the end of the rank column and the highest bid is its last
+ * entry. Reads walk the columns without creating an object per bid.
+ * <p>
+ * A bid is reserved on the heap while its transaction is open and written to the columns once it commits, a close
+ * is begun with the transaction and completed once it commits. A close waits for the bids still reserved, so its
+ * winner is always a committed bid. A completed close drops the columns and releases the bider ids, only the
+ * winning bid and the number of bids are kept.
+ */
+final class ProductBidColumns {
+
+    private static final int LONG_BYTES = Long.BYTES;
+    private static final int INT_BYTES = Integer.BYTES;
+
+    private ByteBuffer prices;
+    private ByteBuffer timestamps;
+    private ByteBuffer biders;
+    private ByteBuffer ids;
+    private ByteBuffer ranks;
+    private int capacity;
+    private int size;
+
+    private final Map<Long, Bid> reserved = new LinkedHashMap<>();
+    private boolean closing;
+    private boolean closed;
+    private Bid winner;
+
+    ProductBidColumns(final int initialCapacity) {
+        capacity = initialCapacity;
+        prices = allocate(capacity * LONG_BYTES);
+        timestamps = allocate(capacity * LONG_BYTES);
+        biders = allocate(capacity * INT_BYTES);
+        ids = allocate(capacity * LONG_BYTES);
+        ranks = allocate(capacity * INT_BYTES);
+    }
+
+    synchronized Bid reserve(final long id, final String bider, final long price, final long timestamp) {
+        if (closing || closed) {
+            throw new InvalidRequestException("", "Auction has ended");
+        }
+        final Bid bid = new Bid(id, bider, price, new Date(timestamp));
+        reserved.put(id, bid);
+        return bid;
+    }
+
+    synchronized void apply(final long id, final BiderDictionary dictionary) {
+        final Bid bid = reserved.remove(id);
+        if (bid != null) {
+            append(bid.getId(), dictionary.acquire(bid.getBider()), bid.getBidPriceMinor(), bid.getTimestamp().getTime());
+        }
+        notifyAll();
+    }
+
+    synchronized void discard(final long id) {
+        reserved.remove(id);
+        notifyAll();
+    }
+
+    /**
+     * @return the leading written bid, once the bids reserved by other transactions are written or discarded.
+     */
+    synchronized LeadingBid beginClose(final BiderDictionary dictionary) {
+        if (closed) {
+            return toLeadingBid(winner);
+        }
+        closing = true;
+        try {
+            StoreTransactions.awaitReservations(this, reserved);
+        } catch (final RuntimeException e) {
+            closing = false;
+            throw e;
+        }
+        winner = size > 0 ? toBid(ranks.getInt((size - 1) * INT_BYTES), dictionary) : null;
+        return toLeadingBid(winner);
+    }
+
+    /**
+     * Releases the bider ids and drops the columns, their memory is freed once the buffers are collected.
+     */
+    synchronized void completeClose(final BiderDictionary dictionary) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (int row = 0; row < size; row++) {
+            dictionary.release(biders.getInt(row * INT_BYTES));
+        }
+        prices = null;
+        timestamps = null;
+        biders = null;
+        ids = null;
+        ranks = null;
+        capacity = 0;
+    }
+
+    synchronized void cancelClose() {
+        closing = false;
+        winner = null;
+    }
+
+    private void append(final long id, final int bider, final long price, final long timestamp) {
+        if (size == capacity) {
+            grow();
+        }
+        final int row = size;
+        prices.putLong(row * LONG_BYTES, price);
+        timestamps.putLong(row * LONG_BYTES, timestamp);
+        biders.putInt(row * INT_BYTES, bider);
+        ids.putLong(row * LONG_BYTES, id);
+        final int position = firstRankedAtOrAbove(price, timestamp, id);
+        for (int rank = size; rank > position; rank--) {
+            ranks.putInt(rank * INT_BYTES, ranks.getInt((rank - 1) * INT_BYTES));
+        }
+        ranks.putInt(position * INT_BYTES, row);
+        size++;
+    }
+
+    synchronized LeadingBid getLeadingBidIfOpen(final BiderDictionary dictionary) {
+        return closed ? null : leadingBid(dictionary);
+    }
+
+    synchronized int count() {
+        return size;
+    }
+
+    synchronized void forEachBidIfOpen(final Long productIdentifier, final BiderDictionary dictionary,
+                                       final BidStore.BidVisitor visitor) {
+        if (closed) {
+            return;
+        }
+        for (int row = 0; row < size; row++) {
+            visitor.visit(productIdentifier, dictionary.nameOf(biders.getInt(row * INT_BYTES)),
+                    prices.getLong(row * LONG_BYTES), timestamps.getLong(row * LONG_BYTES));
+        }
+    }
+
+    /**
+     * Walks the rank column downwards from the bid ranked just below {@code after}, only the returned bids are
+     * materialized. A closed auction only has its winning bid.
+     */
+    synchronized List<Bid> findBids(final Bid after, final int limit, final BiderDictionary dictionary) {
+        if (closed) {
+            return after == null && winner != null && limit > 0 ? List.of(winner) : List.of();
+        }
+        final int start = after == null
+                ? size - 1
+                : firstRankedAtOrAbove(after.getBidPriceMinor(), after.getTimestamp().getTime(), after.getId()) - 1;
+        final List<Bid> bids = new ArrayList<>(Math.min(limit, Math.max(start + 1, 0)));
+        for (int rank = start; rank >= 0 && bids.size() < limit; rank--) {
+            bids.add(toBid(ranks.getInt(rank * INT_BYTES), dictionary));
+        }
+        return bids;
+    }
+
+    private Bid toBid(final int row, final BiderDictionary dictionary) {
+        return new Bid(ids.getLong(row * LONG_BYTES), dictionary.nameOf(biders.getInt(row * INT_BYTES)),
+                prices.getLong(row * LONG_BYTES), new Date(timestamps.getLong(row * LONG_BYTES)));
+    }
+
+    private LeadingBid leadingBid(final BiderDictionary dictionary) {
+        if (size == 0) {
+            return null;
+        }
+        final int row = ranks.getInt((size - 1) * INT_BYTES);
+        return LeadingBid.builder()
+                .bider(dictionary.nameOf(biders.getInt(row * INT_BYTES)))
+                .bidPriceMinor(prices.getLong(row * LONG_BYTES))
+                .timestamp(timestamps.getLong(row * LONG_BYTES))
+                .build();
+    }
+
+    private static LeadingBid toLeadingBid(final Bid bid) {
+        if (bid == null) {
+            return null;
+        }
+        return LeadingBid.builder()
+                .bider(bid.getBider())
+                .bidPriceMinor(bid.getBidPriceMinor())
+                .timestamp(bid.getTimestamp().getTime())
+                .build();
+    }
+
+    /**
+     * Binary search of the rank column for the first row that ranks at or above the given bid: a higher price,
+     * or the same price placed earlier (then with a lower id).
+     */
+    private int firstRankedAtOrAbove(final long price, final long timestamp, final long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final int row = ranks.getInt(middle * INT_BYTES);
+            if (compare(row, price, timestamp, id) >= 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private int compare(final int row, final long price, final long timestamp, final long id) {
+        final int byPrice = Long.compare(prices.getLong(row * LONG_BYTES), price);
+        if (byPrice != 0) {
+            return byPrice;
+        }
+        final int byTime = Long.compare(timestamp, timestamps.getLong(row * LONG_BYTES));
+        if (byTime != 0) {
+            return byTime;
+        }
+        return Long.compare(id, ids.getLong(row * LONG_BYTES));
+    }
+
+    private void grow() {
+        capacity *= 2;
+        prices = copy(prices, capacity * LONG_BYTES);
+        timestamps = copy(timestamps, capacity * LONG_BYTES);
+        biders = copy(biders, capacity * INT_BYTES);
+        ids = copy(ids, capacity * LONG_BYTES);
+        ranks = copy(ranks, capacity * INT_BYTES);
+    }
+
+    private static ByteBuffer copy(final ByteBuffer column, final int bytes) {
+        return allocate(bytes).put(0, column, 0, column.capacity());
+    }
+
+    private static ByteBuffer allocate(final int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+}
@@ -0,0 +1,66 @@
+package org.deutschebank.auction.biding.service.store;
+
+import org.deutschebank.auction.biding.exception.InvalidRequestException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ties changes of the in-memory bid stores to the transaction that placed the bid or closed the auction.
+ */
+final class StoreTransactions {
+
+    /**
+     * Longest wait of a close for the transactions of reserved bids, which normally commit within milliseconds.
+     */
+    static final long RESERVATION_WAIT_MILLIS = 1000;
+
+    private StoreTransactions() {
+    }
+
+    /**
+     * Runs {@code committed} once the current transaction commits and {@code rolledBack} if it does not, or
+     * {@code committed} right away outside of a transaction.
+     */
+    static void onCompletion(final Runnable committed, final Runnable rolledBack) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            committed.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    committed.run();
+                } else {
+                    rolledBack.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Waits on {@code monitor}, held by the caller and notified when a reservation is applied or discarded, until
+     * no bid is reserved, so a close never picks its winner from a transaction that may still roll back.
+     *
+     * @throws InvalidRequestException if bids are still reserved after {@link #RESERVATION_WAIT_MILLIS}.
+     */
+    static void awaitReservations(final Object monitor, final Map<Long, ?> reserved) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RESERVATION_WAIT_MILLIS);
+        try {
+            long remaining = deadline - System.nanoTime();
+            while (!reserved.isEmpty() && remaining > 0) {
+                TimeUnit.NANOSECONDS.timedWait(monitor, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!reserved.isEmpty()) {
+            throw new InvalidRequestException("", "Bids are still being placed, try again");
+        }
+    }
+
+}
@@ -0,0 +1,5 @@
+-- Adds the optional auction end time of a product to an existing biding database.
+-- Products without an end time keep being closed by their author only.
+-- Run once by hand before the upgrade, the application does not run migrations.
+
+alter table product_detail add column ends_at timestamp;
@@ -0,0 +1,18 @@
+-- Moves the prices of an existing biding database from decimal columns to minor units (cents).
+-- Run once by hand, before starting a version that maps start_price_minor, sold_price_minor and bid_price_minor,
+-- the application does not run migrations.
+-- Prices with fractions of a cent are rounded half up.
+
+alter table product_detail add column start_price_minor bigint;
+alter table product_detail add column sold_price_minor bigint;
+update product_detail set start_price_minor = round(start_price * 100), sold_price_minor = round(sold_price * 100);
+alter table product_detail alter column start_price_minor set not null;
+alter table product_detail drop column start_price;
+alter table product_detail drop column sold_price;
+
+alter table biding_list add column bid_price_minor bigint;
+update biding_list set bid_price_minor = round(bid_price * 100);
+alter table biding_list alter column bid_price_minor set not null;
+drop index productDetailIndex;
+alter table biding_list drop column bid_price;
+create index productDetailIndex on biding_list (product_detail_id, bid_price_minor desc, timestamp);
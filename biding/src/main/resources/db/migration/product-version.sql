@@ -0,0 +1,6 @@
+-- Adds the version of a product record to an existing biding database.
+-- The version orders concurrent changes of a product and rejects lost updates of its status.
+-- Run once by hand before the upgrade, the application does not run migrations.
+
+alter table product_detail add column version bigint;
+update product_detail set version = 0;
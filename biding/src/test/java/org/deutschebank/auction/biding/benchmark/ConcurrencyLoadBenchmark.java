@@ -0,0 +1,120 @@
+package org.deutschebank.auction.biding.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.client.model.UserResponse;
+import org.deutschebank.auction.biding.model.Product;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Sends {@link #REQUESTS} concurrent {@code POST /product} requests, each blocking {@link #USER_SERVICE_LATENCY_MS}
+ * on a stubbed users service, to a server limited to {@link #PLATFORM_THREADS} platform request threads. The users
+ * service bulkhead is sized for all requests so only the request threads limit the calls in flight.
+ */
+@Log4j2
+abstract class ConcurrencyLoadBenchmark {
+
+    static final int PLATFORM_THREADS = 20;
+    static final int REQUESTS = 400;
+    static final long USER_SERVICE_LATENCY_MS = 100;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    long[] addProducts(final String mode) throws Exception {
+        final String user = mapper.writeValueAsString(UserResponse.builder()
+                .userToken(UUID.randomUUID().toString())
+                .firstName("load")
+                .lastName("test")
+                .build());
+        final MockRestServiceServer mockServer = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        mockServer.expect(ExpectedCount.manyTimes(), requestTo(startsWith("http://localhost:8081/user/")))
+                .andRespond(request -> {
+                    try {
+                        Thread.sleep(USER_SERVICE_LATENCY_MS);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return withSuccess(user, MediaType.APPLICATION_JSON).createResponse(request);
+                });
+
+        final ExecutorService clients = Executors.newFixedThreadPool(REQUESTS);
+        final HttpClient httpClient = HttpClient.newBuilder()
+                .executor(clients)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        final List<CompletableFuture<Long>> calls = new ArrayList<>(REQUESTS);
+        final long start = System.nanoTime();
+        try {
+            for (int request = 0; request < REQUESTS; request++) {
+                final String body = mapper.writeValueAsString(Product.builder()
+                        .name("load product " + request)
+                        .description("load description")
+                        .startPrice(1000.0)
+                        .active(true)
+                        .build());
+                final HttpRequest httpRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/product"))
+                        .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .header("X-User-Token", UUID.randomUUID().toString())
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+                final long sent = System.nanoTime();
+                calls.add(httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.discarding())
+                        .thenApply(response -> {
+                            Assertions.assertThat(response.statusCode()).isEqualTo(200);
+                            return System.nanoTime() - sent;
+                        }));
+            }
+            final long[] latencies = calls.stream().map(CompletableFuture::join).mapToLong(Long::longValue).toArray();
+            final long elapsed = System.nanoTime() - start;
+            Arrays.sort(latencies);
+            log.info("{}: {} requests in {} ms ({} req/s), latency p50: {} ms, p99: {} ms, max: {} ms", mode,
+                    REQUESTS, elapsed / 1_000_000, REQUESTS * 1_000_000_000L / elapsed,
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1_000_000);
+            return latencies;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * The p99 a pool of {@link #PLATFORM_THREADS} threads cannot beat: requests queue in waves of pool size.
+     */
+    static long platformPoolBoundMillis() {
+        return (long) Math.ceil((double) REQUESTS / PLATFORM_THREADS) * USER_SERVICE_LATENCY_MS;
+    }
+
+    static long percentile(final long[] sortedLatencies, final double percentile) {
+        final int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000;
+    }
+
+}
@@ -0,0 +1,23 @@
+package org.deutschebank.auction.biding.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Baseline for {@link VirtualThreadLoadBenchmark}, run with {@code ./gradlew :biding:benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=false",
+        "server.tomcat.threads.max=" + ConcurrencyLoadBenchmark.PLATFORM_THREADS,
+        "user-service.bulkhead.max-concurrent-calls=" + ConcurrencyLoadBenchmark.REQUESTS
+})
+public class PlatformThreadLoadBenchmark extends ConcurrencyLoadBenchmark {
+
+    @Test
+    void concurrentRequestsAgainstSlowUserService() throws Exception {
+        addProducts("platform threads");
+    }
+
+}
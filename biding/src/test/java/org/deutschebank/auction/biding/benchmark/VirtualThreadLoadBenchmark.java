@@ -0,0 +1,30 @@
+package org.deutschebank.auction.biding.benchmark;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Same load as {@link PlatformThreadLoadBenchmark} with request handling on virtual threads, which needs a Java 21
+ * runtime. Run with {@code ./gradlew :biding:benchmark}.
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "server.tomcat.threads.max=" + ConcurrencyLoadBenchmark.PLATFORM_THREADS,
+        "user-service.bulkhead.max-concurrent-calls=" + ConcurrencyLoadBenchmark.REQUESTS
+})
+public class VirtualThreadLoadBenchmark extends ConcurrencyLoadBenchmark {
+
+    @Test
+    void concurrentRequestsAgainstSlowUserService() throws Exception {
+        final long[] latencies = addProducts("virtual threads");
+
+        Assertions.assertThat(percentile(latencies, 0.99)).isLessThan(platformPoolBoundMillis());
+    }
+
+}
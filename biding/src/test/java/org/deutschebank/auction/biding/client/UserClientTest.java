@@ -0,0 +1,106 @@
+package org.deutschebank.auction.biding.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.client.model.UserResponse;
+import org.deutschebank.auction.biding.client.resilience.Bulkhead;
+import org.deutschebank.auction.biding.client.resilience.CircuitBreaker;
+import org.deutschebank.auction.biding.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.UUID;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {
+        "user-service.cache.ttl-ms=20",
+        "user-service.circuit-breaker.window-size=2",
+        "user-service.circuit-breaker.minimum-calls=2",
+        "user-service.circuit-breaker.open-ms=60000",
+        "user-service.bulkhead.max-concurrent-calls=1",
+        "user-service.bulkhead.max-wait-ms=5000"
+})
+public class UserClientTest {
+
+    @Autowired
+    private UserClient userClient;
+
+    @Autowired
+    private CircuitBreaker circuitBreaker;
+
+    @Autowired
+    private Bulkhead bulkhead;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void givenExpiredCachedUser_whenUsersServiceFails_thenServeStaleUser() throws JsonProcessingException, URISyntaxException, InterruptedException {
+        UserResponse dummyUser = getDummyUser();
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withServerError());
+
+        Assertions.assertThat(userClient.getUser(dummyUser.getUserToken()).getUserToken()).isEqualTo(dummyUser.getUserToken());
+        Thread.sleep(40);
+        UserResponse staleUser = userClient.getUser(dummyUser.getUserToken());
+
+        mockServer.verify();
+        Assertions.assertThat(staleUser.getUserToken()).isEqualTo(dummyUser.getUserToken());
+    }
+
+    @Test
+    @DirtiesContext
+    void givenOpenCircuitAndFullBulkhead_whenGetUser_thenRejectWithoutWaiting() {
+        for (int call = 0; call < 2; call++) {
+            circuitBreaker.tryAcquirePermission();
+            circuitBreaker.onFailure();
+        }
+        Assertions.assertThat(bulkhead.tryAcquire()).isTrue();
+        try {
+            long start = System.nanoTime();
+            Assertions.assertThatThrownBy(() -> userClient.getUser(UUID.randomUUID().toString()))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage("Users service is unavailable");
+            Assertions.assertThat(System.nanoTime() - start).isLessThan(1_000_000_000L);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private UserResponse getDummyUser() {
+        return UserResponse.builder()
+                .userToken(UUID.randomUUID().toString())
+                .firstName("dummy")
+                .lastName("user")
+                .build();
+    }
+
+}
@@ -0,0 +1,132 @@
+package org.deutschebank.auction.biding.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.client.model.UserResponse;
+import org.deutschebank.auction.biding.client.model.response.LookupUsersResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {
+        "user-service.lookup.batch.enabled=true",
+        "user-service.lookup.batch.size=2",
+        "user-service.lookup.batch.window-ms=200"
+})
+public class UserLookupBatcherTest {
+
+    @Autowired
+    private UserLookupBatcher userLookupBatcher;
+
+    @Autowired
+    private UserClient userClient;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void givenLookupsOfSameToken_whenBatched_thenSendTokenOnce() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/users/lookup")))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(content().json("{\"userTokens\":[\"" + dummyUser.getUserToken() + "\"]}", true))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(LookupUsersResponse.builder().users(List.of(dummyUser)).build()))
+                );
+
+        CompletableFuture<UserResponse> first = userLookupBatcher.lookup(dummyUser.getUserToken());
+        CompletableFuture<UserResponse> second = userLookupBatcher.lookup(dummyUser.getUserToken());
+
+        Assertions.assertThat(first.join().getUserToken()).isEqualTo(dummyUser.getUserToken());
+        Assertions.assertThat(second.join().getUserToken()).isEqualTo(dummyUser.getUserToken());
+        mockServer.verify();
+    }
+
+    @Test
+    void givenMoreLookupsThanBatchSize_whenBatched_thenSendOneRequestPerBatch() throws JsonProcessingException, URISyntaxException {
+        List<UserResponse> users = List.of(getDummyUser(), getDummyUser(), getDummyUser());
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.times(2), requestTo(new URI("http://localhost:8081/users/lookup")))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(LookupUsersResponse.builder().users(users).build()))
+                );
+
+        List<CompletableFuture<UserResponse>> lookups = users.stream()
+                .map(user -> userLookupBatcher.lookup(user.getUserToken()))
+                .toList();
+
+        Assertions.assertThat(lookups).extracting(lookup -> lookup.join().getUserToken())
+                .containsExactlyElementsOf(users.stream().map(UserResponse::getUserToken).toList());
+        mockServer.verify();
+    }
+
+    @Test
+    void givenUnknownToken_whenBatched_thenCompleteWithoutUser() throws JsonProcessingException, URISyntaxException {
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/users/lookup")))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(LookupUsersResponse.builder().users(List.of()).build()))
+                );
+
+        Assertions.assertThat(userLookupBatcher.lookup(UUID.randomUUID().toString()).join()).isNull();
+        mockServer.verify();
+    }
+
+    @Test
+    void givenConcurrentGetUserOfSameToken_whenBatchingEnabled_thenLookUpOnce() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/users/lookup")))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(LookupUsersResponse.builder().users(List.of(dummyUser)).build()))
+                );
+
+        List<CompletableFuture<UserResponse>> lookups = List.of(
+                CompletableFuture.supplyAsync(() -> userClient.getUser(dummyUser.getUserToken())),
+                CompletableFuture.supplyAsync(() -> userClient.getUser(dummyUser.getUserToken())));
+
+        Assertions.assertThat(lookups).extracting(lookup -> lookup.join().getUserToken())
+                .containsOnly(dummyUser.getUserToken());
+        mockServer.verify();
+    }
+
+    private UserResponse getDummyUser() {
+        return UserResponse.builder()
+                .userToken(UUID.randomUUID().toString())
+                .firstName("test")
+                .lastName("qa")
+                .build();
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.deutschebank.auction.biding.client.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BulkheadTest {
+
+    @Test
+    void givenAllSlotsTaken_whenAcquire_thenRejectAfterMaxWait() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Bulkhead bulkhead = new Bulkhead(2, 20, meterRegistry);
+        Assertions.assertThat(bulkhead.tryAcquire()).isTrue();
+        Assertions.assertThat(bulkhead.tryAcquire()).isTrue();
+
+        long start = System.nanoTime();
+        Assertions.assertThat(bulkhead.tryAcquire()).isFalse();
+
+        Assertions.assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(20_000_000L);
+        Assertions.assertThat(bulkhead.getCallsInFlight()).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("user-service.calls.rejected").tag("reason", "bulkhead-full")
+                .counter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("user-service.bulkhead.calls").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void givenSlotReleased_whenWaiting_thenAcquire() throws InterruptedException {
+        Bulkhead bulkhead = new Bulkhead(1, 5_000, new SimpleMeterRegistry());
+        bulkhead.tryAcquire();
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            bulkhead.release();
+        });
+        releaser.start();
+
+        Assertions.assertThat(bulkhead.tryAcquire()).isTrue();
+        releaser.join();
+        Assertions.assertThat(bulkhead.getCallsInFlight()).isEqualTo(1);
+    }
+
+}
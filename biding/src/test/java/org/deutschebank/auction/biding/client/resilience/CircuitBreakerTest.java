@@ -0,0 +1,49 @@
+package org.deutschebank.auction.biding.client.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CircuitBreakerTest {
+
+    @Test
+    void givenFailureRateReached_whenAcquirePermission_thenRejectUntilOpenPeriodPassed() throws InterruptedException {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(10, 4, 50, 50, 2, new SimpleMeterRegistry());
+        for (int call = 0; call < 2; call++) {
+            Assertions.assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+            circuitBreaker.onSuccess();
+        }
+        for (int call = 0; call < 2; call++) {
+            Assertions.assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+            circuitBreaker.onFailure();
+        }
+
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        Assertions.assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        Thread.sleep(60);
+
+        Assertions.assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        Assertions.assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        Assertions.assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void givenHalfOpen_whenProbesSucceedOrFail_thenCloseOrOpen() throws InterruptedException {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(4, 1, 100, 10, 1, new SimpleMeterRegistry());
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onFailure();
+        Thread.sleep(20);
+
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onFailure();
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(20);
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+}
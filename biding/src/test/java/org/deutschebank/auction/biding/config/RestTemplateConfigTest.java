@@ -0,0 +1,44 @@
+package org.deutschebank.auction.biding.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {
+        "user-service.http.max-connections=7",
+        "user-service.http.max-connections-per-route=3"
+})
+public class RestTemplateConfigTest {
+
+    @Autowired
+    private PoolingHttpClientConnectionManager userServiceConnectionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void givenPoolProperties_whenStarted_thenLimitConnections() {
+        Assertions.assertThat(userServiceConnectionManager.getMaxTotal()).isEqualTo(7);
+        Assertions.assertThat(userServiceConnectionManager.getDefaultMaxPerRoute()).isEqualTo(3);
+    }
+
+    @Test
+    void givenIdlePool_whenStarted_thenExportConnectionGauges() {
+        Assertions.assertThat(connections("max")).isEqualTo(7);
+        Assertions.assertThat(connections("leased")).isZero();
+        Assertions.assertThat(connections("pending")).isZero();
+        Assertions.assertThat(meterRegistry.find("user-service.http.connections").tag("state", "available").gauge())
+                .isNotNull();
+    }
+
+    private double connections(String state) {
+        return meterRegistry.get("user-service.http.connections").tag("state", state).gauge().value();
+    }
+
+}
@@ -0,0 +1,148 @@
+package org.deutschebank.auction.biding.controller.socket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.client.model.UserResponse;
+import org.deutschebank.auction.biding.model.BidStatus;
+import org.deutschebank.auction.biding.model.BidStatusResponse;
+import org.deutschebank.auction.biding.model.Product;
+import org.deutschebank.auction.biding.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class BidSocketHandlerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserTokenHandshakeInterceptor handshakeInterceptor;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void givenValidatedConnection_whenSendBidFrames_thenAnswerEveryFrameInOrder() throws Exception {
+        UserResponse dummyUser = getDummyUser();
+        String biderToken = UUID.randomUUID().toString();
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        expectUser(mockServer, dummyUser.getUserToken(), dummyUser);
+        expectUser(mockServer, biderToken, dummyUser);
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), getTestProduct(dummyUser.getUserToken()));
+        BlockingQueue<String> replies = new LinkedBlockingQueue<>();
+        WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+        headers.add(UserTokenHandshakeInterceptor.USER_TOKEN_HEADER, biderToken);
+
+        WebSocketSession session = new StandardWebSocketClient().execute(new TextWebSocketHandler() {
+            @Override
+            protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+                replies.add(message.getPayload());
+            }
+        }, headers, URI.create("ws://localhost:" + port + "/bids/ws")).get(5, TimeUnit.SECONDS);
+        session.sendMessage(new TextMessage("{\"productIdentifier\": " + savedProduct.getId() + ", \"priceMinor\": 200000}"));
+        session.sendMessage(new TextMessage("not a bid"));
+        String placed = replies.poll(5, TimeUnit.SECONDS);
+        String rejected = replies.poll(5, TimeUnit.SECONDS);
+        session.close();
+
+        Assertions.assertThat(mapper.readValue(placed, BidStatusResponse.class).getStatus()).isEqualTo(BidStatus.PLACED);
+        Assertions.assertThat(mapper.readValue(rejected, BidStatusResponse.class).getMessage()).isEqualTo("Invalid bid frame");
+        mockServer.verify();
+    }
+
+    @Test
+    void givenUsersServiceUnavailable_whenHandshake_thenRespondServiceUnavailable() throws Exception {
+        String userToken = UUID.randomUUID().toString();
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + userToken)))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withServerError());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(UserTokenHandshakeInterceptor.USER_TOKEN_HEADER, userToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean accepted = handshakeInterceptor.beforeHandshake(new ServletServerHttpRequest(request),
+                new ServletServerHttpResponse(response), null, new HashMap<>());
+
+        Assertions.assertThat(accepted).isFalse();
+        Assertions.assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+
+    @Test
+    void givenMissingUserToken_whenHandshake_thenRespondUnauthorized() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean accepted = handshakeInterceptor.beforeHandshake(new ServletServerHttpRequest(new MockHttpServletRequest()),
+                new ServletServerHttpResponse(response), null, new HashMap<>());
+
+        Assertions.assertThat(accepted).isFalse();
+        Assertions.assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    private void expectUser(MockRestServiceServer mockServer, String userToken, UserResponse user) throws Exception {
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + userToken)))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(user))
+                );
+    }
+
+    private Product getTestProduct(String userToken) {
+        return Product.builder()
+                .name("test product")
+                .description("test description")
+                .active(true)
+                .author(userToken)
+                .sold(false)
+                .startPrice(1000.00)
+                .build();
+    }
+
+    private UserResponse getDummyUser() {
+        return UserResponse.builder()
+                .userToken(UUID.randomUUID().toString())
+                .firstName("test")
+                .lastName("qa")
+                .build();
+    }
+
+}
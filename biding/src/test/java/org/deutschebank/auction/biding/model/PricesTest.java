@@ -0,0 +1,22 @@
+package org.deutschebank.auction.biding.model;
+
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+public class PricesTest {
+
+    @Test
+    void givenDecimalPrice_whenToMinor_thenReturnExactCents() {
+        Assertions.assertThat(Prices.toMinor(19.99)).isEqualTo(1999L);
+        Assertions.assertThat(Prices.toMinor(4500.0, null)).isEqualTo(450000L);
+        Assertions.assertThat(Prices.toMinor(4500.0, 1L)).isEqualTo(1L);
+        Assertions.assertThat(Prices.toMajor(1999L)).isEqualTo(19.99);
+    }
+
+    @Test
+    void givenFractionOfCent_whenToMinor_thenThrowInvalidRequest() {
+        Assertions.assertThatThrownBy(() -> Prices.toMinor(0.001)).isInstanceOf(InvalidRequestException.class);
+    }
+
+}
@@ -0,0 +1,180 @@
+package org.deutschebank.auction.biding.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.client.model.UserResponse;
+import org.deutschebank.auction.biding.model.BidStatus;
+import org.deutschebank.auction.biding.model.BidStatusResponse;
+import org.deutschebank.auction.biding.model.BidWinner;
+import org.deutschebank.auction.biding.model.Product;
+import org.deutschebank.auction.biding.model.request.PlaceBidRequest;
+import org.deutschebank.auction.biding.service.ingestion.BidIngestion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.UUID;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "biding.ingestion.mode=async")
+public class BidIngestionTest {
+
+    @Autowired
+    private BidingService bidingService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BidIngestion bidIngestion;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void givenAsyncIngestion_whenPlaceBid_thenReturnTicketAndPlaceBid() throws JsonProcessingException, URISyntaxException, InterruptedException {
+        UserResponse dummyUser = getDummyUser();
+        String newToken = UUID.randomUUID().toString();
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + newToken)))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), getTestProduct(dummyUser.getUserToken()));
+
+        BidStatusResponse response = bidingService.placeBid(newToken, savedProduct.getId(), PlaceBidRequest.builder().price(2000.00).build());
+
+        Assertions.assertThat(response.getStatus()).isEqualTo(BidStatus.ACCEPTED);
+        Assertions.assertThat(response.getTicket()).isNotNull();
+        BidStatus status = bidingService.getBidStatus(response.getTicket()).getStatus();
+        for (int attempt = 0; attempt < 50 && status == BidStatus.ACCEPTED; attempt++) {
+            Thread.sleep(100);
+            status = bidingService.getBidStatus(response.getTicket()).getStatus();
+        }
+        Assertions.assertThat(status).isEqualTo(BidStatus.PLACED);
+    }
+
+    @Test
+    void givenQueuedBids_whenSoldProduct_thenReturnWinner() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        String newToken = UUID.randomUUID().toString();
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + newToken)))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), getTestProduct(dummyUser.getUserToken()));
+        bidingService.placeBid(newToken, savedProduct.getId(), PlaceBidRequest.builder().price(2000.00).build());
+
+        BidWinner bidWinner = bidingService.soldProduct(dummyUser.getUserToken(), savedProduct.getId());
+
+        Assertions.assertThat(bidWinner.getWinnerDetails().getWinner()).isEqualTo(newToken);
+    }
+
+    @Test
+    void givenSoldProduct_whenQueuedBidIsWritten_thenReturnRejected() throws JsonProcessingException, URISyntaxException, InterruptedException {
+        UserResponse dummyUser = getDummyUser();
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), getTestProduct(dummyUser.getUserToken()));
+        bidingService.soldProduct(dummyUser.getUserToken(), savedProduct.getId());
+
+        BidStatusResponse response = bidIngestion.submit(savedProduct.getId(), UUID.randomUUID().toString(), 200_000L);
+
+        BidStatusResponse status = bidingService.getBidStatus(response.getTicket());
+        for (int attempt = 0; attempt < 50 && status.getStatus() == BidStatus.ACCEPTED; attempt++) {
+            Thread.sleep(100);
+            status = bidingService.getBidStatus(response.getTicket());
+        }
+        Assertions.assertThat(status.getStatus()).isEqualTo(BidStatus.REJECTED);
+        Assertions.assertThat(status.getMessage()).isEqualTo("Auction has ended");
+    }
+
+    @Test
+    void givenQueuedBidOutbidByEarlierQueuedBid_whenWritten_thenReturnRejected() throws JsonProcessingException, URISyntaxException, InterruptedException {
+        UserResponse dummyUser = getDummyUser();
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), getTestProduct(dummyUser.getUserToken()));
+
+        BidStatusResponse higherBid = bidIngestion.submit(savedProduct.getId(), UUID.randomUUID().toString(), 300_000L);
+        BidStatusResponse lowerBid = bidIngestion.submit(savedProduct.getId(), UUID.randomUUID().toString(), 250_000L);
+
+        Assertions.assertThat(awaitStatus(higherBid.getTicket()).getStatus()).isEqualTo(BidStatus.PLACED);
+        BidStatusResponse status = awaitStatus(lowerBid.getTicket());
+        Assertions.assertThat(status.getStatus()).isEqualTo(BidStatus.REJECTED);
+        Assertions.assertThat(status.getMessage()).isEqualTo("Bid should be greater than the current highest bid");
+    }
+
+    private BidStatusResponse awaitStatus(String ticket) throws InterruptedException {
+        BidStatusResponse status = bidingService.getBidStatus(ticket);
+        for (int attempt = 0; attempt < 50 && status.getStatus() == BidStatus.ACCEPTED; attempt++) {
+            Thread.sleep(100);
+            status = bidingService.getBidStatus(ticket);
+        }
+        return status;
+    }
+
+    private Product getTestProduct(String userToken) {
+        return Product.builder()
+                .name("test product")
+                .description("test description")
+                .active(true)
+                .author(userToken)
+                .sold(false)
+                .startPrice(1000.00)
+                .build();
+    }
+
+    private UserResponse getDummyUser() {
+        return UserResponse.builder()
+                .userToken(UUID.randomUUID().toString())
+                .firstName("test")
+                .lastName("qa")
+                .build();
+    }
+
+}
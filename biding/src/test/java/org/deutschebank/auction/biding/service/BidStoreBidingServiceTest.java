@@ -0,0 +1,115 @@
+package org.deutschebank.auction.biding.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.client.model.UserResponse;
+import org.deutschebank.auction.biding.exception.InvalidRequestException;
+import org.deutschebank.auction.biding.model.BidStatus;
+import org.deutschebank.auction.biding.model.BidWinner;
+import org.deutschebank.auction.biding.model.Bids;
+import org.deutschebank.auction.biding.model.Leaderboard;
+import org.deutschebank.auction.biding.model.Product;
+import org.deutschebank.auction.biding.model.request.PlaceBidRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.UUID;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+/**
+ * Places and closes auctions through {@link BidingService} on top of the in-memory bid stores, each subclass
+ * selects one with {@code biding.store.type}.
+ */
+abstract class BidStoreBidingServiceTest {
+
+    @Autowired
+    protected BidingService bidingService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void givenBids_whenGetBidsAndLeaderboard_thenReturnHighestFirst() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        Product savedProduct = addProduct(dummyUser);
+        for (double price : new double[]{1500.00, 2000.00, 2500.00}) {
+            Assertions.assertThat(bidingService.placeBidAsValidatedUser(UUID.randomUUID().toString(),
+                    savedProduct.getId(), PlaceBidRequest.builder().price(price).build()).getStatus())
+                    .isEqualTo(BidStatus.PLACED);
+        }
+
+        Bids firstPage = bidingService.getBids(savedProduct.getId(), 2, null);
+        Bids secondPage = bidingService.getBids(savedProduct.getId(), 2, firstPage.getNextCursor());
+        Leaderboard leaderboard = bidingService.getLeaderboard(savedProduct.getId());
+
+        Assertions.assertThat(firstPage.getBids()).extracting("bidPrice").containsExactly(2500.00, 2000.00);
+        Assertions.assertThat(secondPage.getBids()).extracting("bidPrice").containsExactly(1500.00);
+        Assertions.assertThat(leaderboard.getBidCount()).isEqualTo(3);
+        Assertions.assertThat(leaderboard.getEntries()).extracting("bidPrice").startsWith(2500.00);
+    }
+
+    @Test
+    void givenBids_whenSoldProduct_thenReturnWinnerAndRejectLaterBids() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        String winner = UUID.randomUUID().toString();
+        Product savedProduct = addProduct(dummyUser);
+        bidingService.placeBidAsValidatedUser(UUID.randomUUID().toString(), savedProduct.getId(),
+                PlaceBidRequest.builder().price(1500.00).build());
+        bidingService.placeBidAsValidatedUser(winner, savedProduct.getId(),
+                PlaceBidRequest.builder().price(2000.00).build());
+
+        BidWinner bidWinner = bidingService.soldProduct(dummyUser.getUserToken(), savedProduct.getId());
+
+        Assertions.assertThat(bidWinner.getWinnerDetails().getWinner()).isEqualTo(winner);
+        Assertions.assertThat(bidWinner.getWinnerDetails().getWinningBid()).isEqualTo(2000.00);
+        Assertions.assertThat(bidingService.getBids(savedProduct.getId(), 10, null).getBids().get(0).getBider())
+                .isEqualTo(winner);
+        Assertions.assertThatThrownBy(() -> bidingService.placeBidAsValidatedUser(UUID.randomUUID().toString(),
+                        savedProduct.getId(), PlaceBidRequest.builder().price(3000.00).build()))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    protected Product addProduct(UserResponse dummyUser) throws JsonProcessingException, URISyntaxException {
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        return productService.addProduct(dummyUser.getUserToken(), Product.builder()
+                .name("test product")
+                .description("test description")
+                .active(true)
+                .author(dummyUser.getUserToken())
+                .sold(false)
+                .startPrice(1000.00)
+                .build());
+    }
+
+    protected UserResponse getDummyUser() {
+        return UserResponse.builder()
+                .userToken(UUID.randomUUID().toString())
+                .firstName("test")
+                .lastName("qa")
+                .build();
+    }
+
+}
@@ -2,11 +2,14 @@ package org.deutschebank.auction.biding.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.deutschebank.auction.biding.client.model.UserResponse;
+import org.deutschebank.auction.biding.exception.ResourceNotFoundException;
 import org.deutschebank.auction.biding.model.BidStatus;
 import org.deutschebank.auction.biding.model.BidStatusResponse;
 import org.deutschebank.auction.biding.model.BidWinner;
+import org.deutschebank.auction.biding.model.Bids;
 import org.deutschebank.auction.biding.model.Product;
 import org.deutschebank.auction.biding.model.request.PlaceBidRequest;
 import org.deutschebank.auction.biding.repository.BidingRepository;
@@ -46,6 +49,9 @@ public class BidingServiceTest {
     @Autowired
     private RestTemplate restTemplate;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private ObjectMapper mapper = new ObjectMapper();
 
     @Test
@@ -66,8 +72,8 @@ public class BidingServiceTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .body(mapper.writeValueAsString(dummyUser))
                 );
-        productService.addProduct(dummyUser.getUserToken(), testProduct);
-        BidStatusResponse response = bidingService.placeBid(newToken, testProduct.getId(), PlaceBidRequest.builder().price(2000.00).build());
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        BidStatusResponse response = bidingService.placeBid(newToken, savedProduct.getId(), PlaceBidRequest.builder().price(2000.00).build());
 
         Assertions.assertThat(response.getStatus()).isEqualTo(BidStatus.PLACED);
     }
@@ -90,8 +96,8 @@ public class BidingServiceTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .body(mapper.writeValueAsString(dummyUser))
                 );
-        productService.addProduct(dummyUser.getUserToken(), testProduct);
-        BidStatusResponse response = bidingService.placeBid(newToken, testProduct.getId(), PlaceBidRequest.builder().price(1.00).build());
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        BidStatusResponse response = bidingService.placeBid(newToken, savedProduct.getId(), PlaceBidRequest.builder().price(1.00).build());
 
         Assertions.assertThat(response.getStatus()).isEqualTo(BidStatus.REJECTED);
     }
@@ -114,10 +120,10 @@ public class BidingServiceTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .body(mapper.writeValueAsString(dummyUser))
                 );
-        productService.addProduct(dummyUser.getUserToken(), testProduct);
-        bidingService.placeBid(newToken, testProduct.getId(), PlaceBidRequest.builder().price(2000.00).build());
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        bidingService.placeBid(newToken, savedProduct.getId(), PlaceBidRequest.builder().price(2000.00).build());
 
-        BidWinner bidWinner = bidingService.soldProduct(dummyUser.getUserToken(), testProduct.getId());
+        BidWinner bidWinner = bidingService.soldProduct(dummyUser.getUserToken(), savedProduct.getId());
 
         Assertions.assertThat(bidWinner.getProductIdentifier()).isNotNull();
         Assertions.assertThat(bidWinner.getWinnerDetails().getWinner()).isEqualTo(newToken);
@@ -134,14 +140,124 @@ public class BidingServiceTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .body(mapper.writeValueAsString(dummyUser))
                 );
-        productService.addProduct(dummyUser.getUserToken(), testProduct);
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), testProduct);
 
-        BidWinner bidWinner = bidingService.soldProduct(dummyUser.getUserToken(), testProduct.getId());
+        BidWinner bidWinner = bidingService.soldProduct(dummyUser.getUserToken(), savedProduct.getId());
 
         Assertions.assertThat(bidWinner.getProductIdentifier()).isNotNull();
         Assertions.assertThat(bidWinner.getWinnerDetails().getWinner()).isNull();
     }
 
+    @Test
+    void givenLeadingBid_whenPlaceLowerBid_thenReturnRejected() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        String leadingToken = UUID.randomUUID().toString();
+        String outbidToken = UUID.randomUUID().toString();
+        Product testProduct = getTestProduct(dummyUser.getUserToken(), true);
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + leadingToken)))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        bidingService.placeBid(leadingToken, savedProduct.getId(), PlaceBidRequest.builder().price(2000.00).build());
+
+        BidStatusResponse response = bidingService.placeBid(outbidToken, savedProduct.getId(), PlaceBidRequest.builder().price(1500.00).build());
+        BidWinner bidWinner = bidingService.soldProduct(dummyUser.getUserToken(), savedProduct.getId());
+
+        Assertions.assertThat(response.getStatus()).isEqualTo(BidStatus.REJECTED);
+        Assertions.assertThat(bidWinner.getWinnerDetails().getWinner()).isEqualTo(leadingToken);
+        Assertions.assertThat(bidWinner.getWinnerDetails().getWinningBid()).isEqualTo(2000.00);
+        mockServer.verify();
+    }
+
+    @Test
+    void givenValidatedUser_whenPlaceBid_thenUserIsNotLookedUpAgain() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        Product testProduct = getTestProduct(dummyUser.getUserToken(), true);
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        double placedBefore = meterRegistry.counter("biding.bid.outcome", "status", "PLACED").count();
+
+        BidStatusResponse response = bidingService.placeBidAsValidatedUser(UUID.randomUUID().toString(), savedProduct.getId(),
+                PlaceBidRequest.builder().price(1500.00).build());
+
+        Assertions.assertThat(response.getStatus()).isEqualTo(BidStatus.PLACED);
+        Assertions.assertThat(meterRegistry.counter("biding.bid.outcome", "status", "PLACED").count())
+                .isEqualTo(placedBefore + 1);
+        Assertions.assertThat(meterRegistry.find("biding.operation.stage").tag("stage", "save-bid").timer()).isNotNull();
+        mockServer.verify();
+    }
+
+    @Test
+    void givenBids_whenGetBidsPageByPage_thenReturnHighestFirst() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        Product testProduct = getTestProduct(dummyUser.getUserToken(), true);
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        for (double price : new double[]{1500.00, 2000.00, 2500.00}) {
+            bidingService.placeBidAsValidatedUser(UUID.randomUUID().toString(), savedProduct.getId(),
+                    PlaceBidRequest.builder().price(price).build());
+        }
+
+        Bids firstPage = bidingService.getBids(savedProduct.getId(), 2, null);
+        Bids secondPage = bidingService.getBids(savedProduct.getId(), 2, firstPage.getNextCursor());
+
+        Assertions.assertThat(firstPage.getBids()).extracting("bidPrice").containsExactly(2500.00, 2000.00);
+        Assertions.assertThat(firstPage.getNextCursor()).isNotNull();
+        Assertions.assertThat(secondPage.getBids()).extracting("bidPrice").containsExactly(1500.00);
+        Assertions.assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void givenLeadingBid_whenRejectIfOutbid_thenRejectWithoutUserLookup() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        Product testProduct = getTestProduct(dummyUser.getUserToken(), true);
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        bidingService.placeBidAsValidatedUser(UUID.randomUUID().toString(), savedProduct.getId(),
+                PlaceBidRequest.builder().price(2000.00).build());
+
+        BidStatusResponse lowerBid = bidingService.rejectIfOutbid(savedProduct.getId(), PlaceBidRequest.builder().price(1500.00).build());
+        BidStatusResponse higherBid = bidingService.rejectIfOutbid(savedProduct.getId(), PlaceBidRequest.builder().price(2500.00).build());
+
+        Assertions.assertThat(lowerBid.getStatus()).isEqualTo(BidStatus.REJECTED);
+        Assertions.assertThat(higherBid).isNull();
+        mockServer.verify();
+    }
+
+    @Test
+    void givenUnknownProduct_whenStreamBids_thenThrowNotFound() {
+        Assertions.assertThatThrownBy(() -> bidingService.streamBids(Long.MAX_VALUE))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
     private Product getTestProduct(String userToken, boolean active) {
         return Product.builder()
                 .id(1L)
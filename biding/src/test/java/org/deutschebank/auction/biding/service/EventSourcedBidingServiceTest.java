@@ -0,0 +1,35 @@
+package org.deutschebank.auction.biding.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.client.model.UserResponse;
+import org.deutschebank.auction.biding.model.Product;
+import org.deutschebank.auction.biding.model.request.PlaceBidRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.net.URISyntaxException;
+import java.util.UUID;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "biding.store.type=event-sourced")
+public class EventSourcedBidingServiceTest extends BidStoreBidingServiceTest {
+
+    @Test
+    void givenClosedAuction_whenGetBids_thenReturnEveryBid() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        Product savedProduct = addProduct(dummyUser);
+        bidingService.placeBidAsValidatedUser(UUID.randomUUID().toString(), savedProduct.getId(),
+                PlaceBidRequest.builder().price(1500.00).build());
+        bidingService.placeBidAsValidatedUser(UUID.randomUUID().toString(), savedProduct.getId(),
+                PlaceBidRequest.builder().price(2000.00).build());
+
+        bidingService.soldProduct(dummyUser.getUserToken(), savedProduct.getId());
+
+        Assertions.assertThat(bidingService.getBids(savedProduct.getId(), 10, null).getBids())
+                .extracting("bidPrice").containsExactly(2000.00, 1500.00);
+    }
+
+}
@@ -12,7 +12,9 @@ import org.deutschebank.auction.biding.model.ProductStatusResponse;
 import org.deutschebank.auction.biding.model.Products;
 import org.deutschebank.auction.biding.model.request.ToggleProductStatusRequest;
 import org.deutschebank.auction.biding.repository.ProductRepository;
+import org.deutschebank.auction.biding.service.catalogue.ProductCatalogue;
 import org.deutschebank.auction.biding.service.common.UserValidatorService;
+import org.deutschebank.auction.biding.service.event.ProductChangedEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,8 +27,10 @@ import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -53,6 +57,9 @@ public class ProductServiceTest {
     @Autowired
     private UserValidatorService userValidatorService;
 
+    @Autowired
+    private ProductCatalogue productCatalogue;
+
     private ObjectMapper mapper = new ObjectMapper();
 
     @Test
@@ -149,6 +156,150 @@ public class ProductServiceTest {
         Assertions.assertThat(response.getStatus()).isEqualTo(ProductStatus.INACTIVE);
     }
 
+    @Test
+    void givenValidatedUser_whenAddProductTwice_thenUserServiceCalledOnce() throws URISyntaxException, JsonProcessingException {
+        UserResponse dummyUser = getDummyUser();
+        Product testProduct = getTestProduct(dummyUser.getUserToken(), true);
+
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+
+        productService.addProduct(dummyUser.getUserToken(), testProduct);
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), testProduct);
+
+        Assertions.assertThat(savedProduct.getId()).isNotNull();
+        mockServer.verify();
+    }
+
+    @Test
+    void givenProductsInRecord_whenGetProductsPage_thenReturnPageAndNextCursor() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        Product testProduct = getTestProduct(dummyUser.getUserToken(), true);
+
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+
+        Product first = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        Product second = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        Product third = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        Products firstPage = productService.getProducts(true, 2, first.getId() - 1);
+        Products secondPage = productService.getProducts(true, 2, firstPage.getNextCursor());
+
+        Assertions.assertThat(firstPage.getProducts()).extracting(Product::getId).containsExactly(first.getId(), second.getId());
+        Assertions.assertThat(firstPage.getNextCursor()).isEqualTo(second.getId());
+        Assertions.assertThat(secondPage.getProducts().get(0).getId()).isEqualTo(third.getId());
+    }
+
+    @Test
+    void givenProductsInRecord_whenGetCompactProducts_thenReturnProductsWithoutDescription() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        Product testProduct = getTestProduct(dummyUser.getUserToken(), true);
+
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        Products products = productService.getProducts(true, 1, savedProduct.getId() - 1, true);
+
+        Assertions.assertThat(products.getProducts().get(0).getId()).isEqualTo(savedProduct.getId());
+        Assertions.assertThat(products.getProducts().get(0).getName()).isEqualTo(testProduct.getName());
+        Assertions.assertThat(products.getProducts().get(0).getDescription()).isNull();
+    }
+
+    @Test
+    void givenProductStatusToggled_whenGetProducts_thenReturnChangedCatalogueVersion() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        Product testProduct = getTestProduct(dummyUser.getUserToken(), true);
+
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        Long versionBeforeToggle = productService.getProducts(true).getCatalogueVersion();
+        productService.toggleProductStatus(dummyUser.getUserToken(), savedProduct.getId(),
+                ToggleProductStatusRequest.builder().active(false).build());
+
+        Assertions.assertThat(productService.getProducts(true).getCatalogueVersion()).isGreaterThan(versionBeforeToggle);
+        Assertions.assertThat(productService.getProducts(false).getProducts())
+                .extracting(Product::getId).doesNotContain(savedProduct.getId());
+        Assertions.assertThat(productService.getProducts(true).getProducts())
+                .extracting(Product::getId).contains(savedProduct.getId());
+    }
+
+    @Test
+    void givenStaleProductChange_whenProductChanged_thenKeepNewerProduct() throws JsonProcessingException, URISyntaxException {
+        UserResponse dummyUser = getDummyUser();
+        Product testProduct = getTestProduct(dummyUser.getUserToken(), true);
+
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        Long addedVersion = productRepository.findById(savedProduct.getId()).orElseThrow().getVersion();
+        productService.toggleProductStatus(dummyUser.getUserToken(), savedProduct.getId(),
+                ToggleProductStatusRequest.builder().active(false).build());
+        productCatalogue.onProductChanged(ProductChangedEvent.builder()
+                .product(savedProduct)
+                .version(addedVersion)
+                .build());
+
+        Assertions.assertThat(productService.getProducts(false).getProducts())
+                .extracting(Product::getId).doesNotContain(savedProduct.getId());
+    }
+
+    @Test
+    void givenInvalidLimit_whenGetProductsPage_thenThrowException() {
+        assertThrows(InvalidRequestException.class, () -> productService.getProducts(true, 0, null));
+    }
+
+    @Test
+    void givenProductsInRecord_whenExportProducts_thenWriteOneJsonLinePerProduct() throws Exception {
+        UserResponse dummyUser = getDummyUser();
+        Product testProduct = getTestProduct(dummyUser.getUserToken(), true);
+
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), testProduct);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        productService.exportProducts(true, outputStream);
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+
+        Assertions.assertThat(lines).hasSize((int) productRepository.count());
+        Assertions.assertThat(lines).anySatisfy(line ->
+                Assertions.assertThat(mapper.readValue(line, Product.class).getId()).isEqualTo(savedProduct.getId()));
+    }
+
     private Product getTestProduct(String userToken, boolean active) {
         return Product.builder()
                 .id(1L)
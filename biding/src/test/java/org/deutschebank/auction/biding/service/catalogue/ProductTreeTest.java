@@ -0,0 +1,67 @@
+package org.deutschebank.auction.biding.service.catalogue;
+
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProductTreeTest {
+
+    @Test
+    void givenProductsInAnyOrder_whenForEachAfter_thenVisitInIdOrderAfterCursor() {
+        ProductTree tree = ProductTree.EMPTY;
+        for (long id : new long[]{50, 10, 40, 20, 30, 60}) {
+            tree = tree.put(product(id, true));
+        }
+        List<Long> visited = new ArrayList<>();
+
+        tree.forEachAfter(20L, product -> {
+            visited.add(product.getId());
+            return visited.size() < 3;
+        });
+
+        Assertions.assertThat(tree.toList()).extracting(Product::getId).containsExactly(10L, 20L, 30L, 40L, 50L, 60L);
+        Assertions.assertThat(visited).containsExactly(30L, 40L, 50L);
+    }
+
+    @Test
+    void givenTree_whenPutAndRemove_thenEarlierTreeIsUnchanged() {
+        ProductTree before = ProductTree.EMPTY;
+        for (long id = 1; id <= 1000; id++) {
+            before = before.put(product(id, true));
+        }
+
+        ProductTree after = before.put(product(500, false)).remove(700);
+
+        Assertions.assertThat(before.get(500).getActive()).isTrue();
+        Assertions.assertThat(before.get(700)).isNotNull();
+        Assertions.assertThat(after.get(500).getActive()).isFalse();
+        Assertions.assertThat(after.get(700)).isNull();
+        Assertions.assertThat(after.toList()).hasSize(999).isSortedAccordingTo((a, b) -> Long.compare(a.getId(), b.getId()));
+    }
+
+    @Test
+    void givenSnapshot_whenProductDeactivated_thenOnlyAllProductsContainIt() {
+        CatalogueSnapshot snapshot = CatalogueSnapshot.of(1, List.of(product(1, true), product(2, true)));
+
+        CatalogueSnapshot changed = snapshot.with(product(2, false));
+
+        Assertions.assertThat(changed.getVersion()).isEqualTo(2);
+        Assertions.assertThat(changed.getActiveProductList()).extracting(Product::getId).containsExactly(1L);
+        Assertions.assertThat(changed.getAllProductList()).extracting(Product::getId).containsExactly(1L, 2L);
+        Assertions.assertThat(snapshot.getActiveProductList()).extracting(Product::getId).containsExactly(1L, 2L);
+    }
+
+    private Product product(long id, boolean active) {
+        return Product.builder()
+                .id(id)
+                .name("product " + id)
+                .active(active)
+                .sold(false)
+                .startPriceMinor(100L)
+                .build();
+    }
+
+}
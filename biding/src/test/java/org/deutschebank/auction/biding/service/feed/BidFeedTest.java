@@ -0,0 +1,152 @@
+package org.deutschebank.auction.biding.service.feed;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.model.AuctionWinner;
+import org.deutschebank.auction.biding.model.BidWinner;
+import org.deutschebank.auction.biding.service.event.AuctionClosedEvent;
+import org.deutschebank.auction.biding.service.event.BidPlacedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class BidFeedTest {
+
+    @Test
+    void givenSubscribers_whenBidsPlacedAndAuctionClosed_thenEverySubscriberReceivesAllEvents() throws InterruptedException {
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        BidFeed bidFeed = feed(emitters);
+        bidFeed.subscribe(42L, () -> null);
+        bidFeed.subscribe(42L, () -> null);
+
+        bidFeed.onBidPlaced(placedBid(10000));
+        bidFeed.onBidPlaced(placedBid(20000));
+        bidFeed.onAuctionClosed(AuctionClosedEvent.builder().productIdentifier(42L).bidWinner(winner()).build());
+
+        for (RecordingEmitter emitter : emitters) {
+            Assertions.assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+            Assertions.assertThat(emitter.events).containsExactly("bid", "bid", "winner");
+        }
+        bidFeed.shutdown();
+    }
+
+    @Test
+    void givenSlowSubscriber_whenBufferOverflows_thenOnlySlowSubscriberIsDropped() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BidFeed bidFeed = new BidFeed(60_000, 4, 2, meterRegistry) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter(emitters.isEmpty() ? release : null);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        bidFeed.subscribe(42L, () -> null);
+        bidFeed.subscribe(42L, () -> null);
+        RecordingEmitter slow = emitters.get(0);
+        RecordingEmitter fast = emitters.get(1);
+
+        for (int bid = 1; bid <= 10; bid++) {
+            bidFeed.onBidPlaced(placedBid(bid * 10000L));
+            awaitEvents(fast, bid);
+        }
+        release.countDown();
+
+        Assertions.assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(fast.events).hasSize(10);
+        Assertions.assertThat(fast.completed.getCount()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.counter("biding.feed.subscribers.dropped").count()).isEqualTo(1);
+        bidFeed.shutdown();
+    }
+
+    @Test
+    void givenSoldProduct_whenSubscribe_thenSendResultAndComplete() throws InterruptedException {
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        BidFeed bidFeed = feed(emitters);
+
+        bidFeed.subscribe(42L, this::winner);
+
+        RecordingEmitter emitter = emitters.get(0);
+        Assertions.assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(emitter.events).containsExactly("winner");
+        bidFeed.shutdown();
+    }
+
+    private BidFeed feed(List<RecordingEmitter> emitters) {
+        return new BidFeed(60_000, 16, 2, new SimpleMeterRegistry()) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter(null);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private void awaitEvents(RecordingEmitter emitter, int count) throws InterruptedException {
+        for (int attempt = 0; attempt < 500 && emitter.events.size() < count; attempt++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private BidPlacedEvent placedBid(long priceMinor) {
+        return BidPlacedEvent.builder()
+                .productIdentifier(42L)
+                .bider("bider")
+                .bidPriceMinor(priceMinor)
+                .timestamp(new Date())
+                .build();
+    }
+
+    private BidWinner winner() {
+        return BidWinner.builder()
+                .productIdentifier(42L)
+                .winnerDetails(AuctionWinner.builder().winner("bider").winningBidMinor(20000L).build())
+                .build();
+    }
+
+    /**
+     * Records the event names instead of writing them, a {@code release} latch makes every send wait for it.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            String event = builder.build().iterator().next().getData().toString();
+            events.add(event.substring("event:".length(), event.indexOf('\n')));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+            super.complete();
+        }
+
+    }
+
+}
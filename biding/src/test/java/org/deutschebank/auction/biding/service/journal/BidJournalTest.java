@@ -0,0 +1,178 @@
+package org.deutschebank.auction.biding.service.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.client.model.UserResponse;
+import org.deutschebank.auction.biding.model.BidStatus;
+import org.deutschebank.auction.biding.model.BidStatusResponse;
+import org.deutschebank.auction.biding.model.Product;
+import org.deutschebank.auction.biding.model.request.PlaceBidRequest;
+import org.deutschebank.auction.biding.repository.BidingRepository;
+import org.deutschebank.auction.biding.repository.ProductRepository;
+import org.deutschebank.auction.biding.service.BidingService;
+import org.deutschebank.auction.biding.service.ProductService;
+import org.deutschebank.auction.biding.service.store.BidStore;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.RestTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {
+        "biding.journal.enabled=true",
+        "biding.journal.path=" + BidJournalTest.JOURNAL_PATH,
+        "biding.journal.product-path=" + BidJournalTest.PRODUCT_JOURNAL_PATH,
+        "biding.journal.region-size-mb=1"
+})
+public class BidJournalTest {
+
+    static final String JOURNAL_PATH = "build/test-journal/bids.journal";
+    static final String PRODUCT_JOURNAL_PATH = "build/test-journal/products.journal";
+
+    @Autowired
+    private BidingService bidingService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BidingRepository bidingRepository;
+
+    @Autowired
+    private BidStore bidStore;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @BeforeAll
+    static void deleteJournal() throws IOException {
+        Files.deleteIfExists(Path.of(JOURNAL_PATH));
+        Files.deleteIfExists(Path.of(PRODUCT_JOURNAL_PATH));
+    }
+
+    @Test
+    void givenJournaledBid_whenBidsAndProductsAreLost_thenReplayRestoresBoth() throws JsonProcessingException, URISyntaxException, IOException {
+        UserResponse dummyUser = getDummyUser();
+        String newToken = UUID.randomUUID().toString();
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + newToken)))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), getTestProduct(dummyUser.getUserToken()));
+        BidStatusResponse response = bidingService.placeBid(newToken, savedProduct.getId(), PlaceBidRequest.builder().price(2000.00).build());
+        bidingRepository.deleteAll();
+        productRepository.deleteById(savedProduct.getId());
+
+        ProductJournal replayedProducts = new ProductJournal(productRepository, dataSource, transactionManager,
+                true, PRODUCT_JOURNAL_PATH);
+        BidJournal replayedJournal = new BidJournal(bidStore, productRepository, replayedProducts, transactionManager,
+                true, JOURNAL_PATH, 1, 2, 256, 5000, meterRegistry);
+        replayedJournal.open();
+        replayedJournal.close();
+        replayedProducts.close();
+
+        Assertions.assertThat(response.getStatus()).isEqualTo(BidStatus.PLACED);
+        Assertions.assertThat(productRepository.findById(savedProduct.getId())).hasValueSatisfying(product ->
+                Assertions.assertThat(product.getAuthor()).isEqualTo(dummyUser.getUserToken()));
+        Assertions.assertThat(bidStore.findBids(savedProduct.getId(), null, 10)).singleElement()
+                .satisfies(bid -> Assertions.assertThat(bid.getBider()).isEqualTo(newToken))
+                .satisfies(bid -> Assertions.assertThat(bid.getBidPriceMinor()).isEqualTo(200_000L));
+        Assertions.assertThat(productService.addProduct(dummyUser.getUserToken(), getTestProduct(dummyUser.getUserToken())).getId())
+                .isGreaterThan(savedProduct.getId());
+    }
+
+    @Test
+    void givenUserTokenIsNotUuid_whenBidsAreLost_thenReplayRestoresToken() throws JsonProcessingException, URISyntaxException, IOException {
+        UserResponse dummyUser = getDummyUser();
+        String newToken = "bider-\u00e9-" + UUID.randomUUID();
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        Product savedProduct = productService.addProduct(dummyUser.getUserToken(), getTestProduct(dummyUser.getUserToken()));
+        BidStatusResponse response = bidingService.placeBidAsValidatedUser(newToken, savedProduct.getId(),
+                PlaceBidRequest.builder().price(2000.00).build());
+        bidingRepository.deleteAll();
+
+        ProductJournal replayedProducts = new ProductJournal(productRepository, dataSource, transactionManager,
+                true, PRODUCT_JOURNAL_PATH);
+        BidJournal replayedJournal = new BidJournal(bidStore, productRepository, replayedProducts, transactionManager,
+                true, JOURNAL_PATH, 1, 2, 256, 5000, meterRegistry);
+        replayedJournal.open();
+        replayedJournal.close();
+        replayedProducts.close();
+
+        Assertions.assertThat(response.getStatus()).isEqualTo(BidStatus.PLACED);
+        Assertions.assertThat(bidStore.findBids(savedProduct.getId(), null, 10)).extracting("bider")
+                .containsExactly(newToken);
+    }
+
+    private Product getTestProduct(String userToken) {
+        return Product.builder()
+                .name("test product")
+                .description("test description")
+                .active(true)
+                .author(userToken)
+                .sold(false)
+                .startPrice(1000.00)
+                .build();
+    }
+
+    private UserResponse getDummyUser() {
+        return UserResponse.builder()
+                .userToken(UUID.randomUUID().toString())
+                .firstName("test")
+                .lastName("qa")
+                .build();
+    }
+
+}
@@ -0,0 +1,24 @@
+package org.deutschebank.auction.biding.service.leaderboard;
+
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.model.LeaderboardEntry;
+import org.junit.jupiter.api.Test;
+
+public class TopBidsTest {
+
+    @Test
+    void givenMoreBidsThanCapacity_whenOffer_thenKeepHighestEarliestFirst() {
+        TopBids topBids = new TopBids(3);
+
+        topBids.offer("a", 10000, 1);
+        topBids.offer("b", 30000, 2);
+        topBids.offer("c", 20000, 3);
+        topBids.offer("d", 30000, 4);
+        boolean accepted = topBids.offer("e", 5000, 5);
+
+        Assertions.assertThat(accepted).isFalse();
+        Assertions.assertThat(topBids.getEntries()).extracting(LeaderboardEntry::getBider).containsExactly("b", "d", "c");
+        Assertions.assertThat(topBids.getEntries()).extracting(LeaderboardEntry::getRank).containsExactly(1, 2, 3);
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.deutschebank.auction.biding.service.schedule;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.client.model.UserResponse;
+import org.deutschebank.auction.biding.model.BidStatus;
+import org.deutschebank.auction.biding.model.BidStatusResponse;
+import org.deutschebank.auction.biding.model.Product;
+import org.deutschebank.auction.biding.model.request.PlaceBidRequest;
+import org.deutschebank.auction.biding.model.request.ToggleProductStatusRequest;
+import org.deutschebank.auction.biding.repository.ProductRepository;
+import org.deutschebank.auction.biding.repository.record.ProductDetail;
+import org.deutschebank.auction.biding.service.BidingService;
+import org.deutschebank.auction.biding.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class AuctionCloseSchedulerTest {
+
+    @Autowired
+    private BidingService bidingService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private AuctionDeadlines auctionDeadlines;
+
+    @Autowired
+    private AuctionCloseScheduler auctionCloseScheduler;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void givenEndTimePassed_whenSchedulerTicks_thenCloseAuctionWithWinner() throws JsonProcessingException, URISyntaxException, InterruptedException {
+        UserResponse dummyUser = getDummyUser();
+        String bider = UUID.randomUUID().toString();
+        Product savedProduct = addProduct(dummyUser, new Date(System.currentTimeMillis() + 500));
+        bidingService.placeBidAsValidatedUser(bider, savedProduct.getId(), PlaceBidRequest.builder().price(2000.00).build());
+
+        ProductDetail productRecord = productRepository.findById(savedProduct.getId()).orElseThrow();
+        for (int attempt = 0; attempt < 50 && !productRecord.getSold(); attempt++) {
+            Thread.sleep(100);
+            productRecord = productRepository.findById(savedProduct.getId()).orElseThrow();
+        }
+
+        Assertions.assertThat(productRecord.getSold()).isTrue();
+        Assertions.assertThat(productRecord.getActive()).isFalse();
+        Assertions.assertThat(productRecord.getSoldPriceMinor()).isEqualTo(200_000L);
+    }
+
+    @Test
+    void givenFailedCloses_whenRetryDeadline_thenDoubleDelayUpToMaximum() {
+        long now = 1_000_000L;
+
+        long firstRetry = auctionCloseScheduler.retryDeadline(now, 1);
+        long secondRetry = auctionCloseScheduler.retryDeadline(now, 2);
+        long lastRetry = auctionCloseScheduler.retryDeadline(now, 1_000);
+
+        Assertions.assertThat(secondRetry - now).isEqualTo(2 * (firstRetry - now));
+        Assertions.assertThat(firstRetry).isGreaterThan(now);
+        Assertions.assertThat(lastRetry - now).isEqualTo(AuctionCloseScheduler.MAX_RETRY_DELAY_MILLIS);
+    }
+
+    @Test
+    void givenDeadlinePassed_whenPlaceBid_thenRejectWithoutLookingUpProduct() {
+        Long unknownProduct = Long.MAX_VALUE - 1;
+        auctionDeadlines.register(unknownProduct, new Date(System.currentTimeMillis() - 1_000));
+        try {
+            BidStatusResponse response = bidingService.placeBidAsValidatedUser(UUID.randomUUID().toString(),
+                    unknownProduct, PlaceBidRequest.builder().price(2000.00).build());
+
+            Assertions.assertThat(response.getStatus()).isEqualTo(BidStatus.REJECTED);
+            Assertions.assertThat(response.getMessage()).isEqualTo("Auction has ended");
+        } finally {
+            auctionDeadlines.remove(unknownProduct);
+        }
+    }
+
+    @Test
+    void givenInactiveProduct_whenEndTimePassed_thenNotClosed() throws JsonProcessingException, URISyntaxException, InterruptedException {
+        UserResponse dummyUser = getDummyUser();
+        Product savedProduct = addProduct(dummyUser, new Date(System.currentTimeMillis() + 200));
+        productService.toggleProductStatus(dummyUser.getUserToken(), savedProduct.getId(),
+                ToggleProductStatusRequest.builder().active(false).build());
+
+        Thread.sleep(400);
+
+        Assertions.assertThat(bidingService.closeExpiredAuction(savedProduct.getId())).isNull();
+        Assertions.assertThat(productRepository.findById(savedProduct.getId()).orElseThrow().getSold()).isFalse();
+    }
+
+    private Product addProduct(UserResponse dummyUser, Date endsAt) throws JsonProcessingException, URISyntaxException {
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:8081/user/" + dummyUser.getUserToken())))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.writeValueAsString(dummyUser))
+                );
+        return productService.addProduct(dummyUser.getUserToken(), Product.builder()
+                .name("test product")
+                .description("test description")
+                .active(true)
+                .author(dummyUser.getUserToken())
+                .sold(false)
+                .startPrice(1000.00)
+                .endsAt(endsAt)
+                .build());
+    }
+
+    private UserResponse getDummyUser() {
+        return UserResponse.builder()
+                .userToken(UUID.randomUUID().toString())
+                .firstName("test")
+                .lastName("qa")
+                .build();
+    }
+
+}
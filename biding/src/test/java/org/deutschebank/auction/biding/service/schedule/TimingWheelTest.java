@@ -0,0 +1,46 @@
+package org.deutschebank.auction.biding.service.schedule;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TimingWheelTest {
+
+    @Test
+    void givenScheduledClose_whenAdvanced_thenExpireAtDeadlineOnly() {
+        final TimingWheel wheel = new TimingWheel(10, 8, 1_000);
+        final List<ScheduledClose> expired = new ArrayList<>();
+        Assertions.assertThat(wheel.add(new ScheduledClose(1, 1_050))).isTrue();
+
+        wheel.advanceTo(1_049, expired::add);
+        Assertions.assertThat(expired).isEmpty();
+
+        wheel.advanceTo(1_050, expired::add);
+        Assertions.assertThat(expired).extracting(ScheduledClose::productIdentifier).containsExactly(1L);
+    }
+
+    @Test
+    void givenCloseBeyondWheelSpan_whenAdvanced_thenCascadeFromOverflowWheel() {
+        final TimingWheel wheel = new TimingWheel(10, 8, 1_000);
+        final List<ScheduledClose> expired = new ArrayList<>();
+        wheel.add(new ScheduledClose(1, 1_730));
+        wheel.add(new ScheduledClose(2, 1_090));
+
+        wheel.advanceTo(1_720, expired::add);
+        Assertions.assertThat(expired).extracting(ScheduledClose::productIdentifier).containsExactly(2L);
+
+        wheel.advanceTo(1_730, expired::add);
+        Assertions.assertThat(expired).extracting(ScheduledClose::productIdentifier).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void givenDueClose_whenAdded_thenNotAdded() {
+        final TimingWheel wheel = new TimingWheel(10, 8, 1_000);
+
+        Assertions.assertThat(wheel.add(new ScheduledClose(1, 1_000))).isFalse();
+        Assertions.assertThat(wheel.add(new ScheduledClose(2, 990))).isFalse();
+    }
+
+}
@@ -0,0 +1,54 @@
+package org.deutschebank.auction.biding.service.sequencing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ProductLanesTest {
+
+    @Test
+    void givenConcurrentRequestsForSameProduct_whenExecute_thenRunOneAtATime() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProductLanes productLanes = new ProductLanes(true, 4, 1000, meterRegistry);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int request = 0; request < 200; request++) {
+            results.add(callers.submit(() -> productLanes.execute(42L, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                running.decrementAndGet();
+                return 1;
+            })));
+        }
+        int completed = 0;
+        for (Future<Integer> result : results) {
+            completed += result.get();
+        }
+        callers.shutdown();
+        productLanes.shutdown();
+
+        Assertions.assertThat(completed).isEqualTo(200);
+        Assertions.assertThat(maxRunning.get()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.find("biding.lanes.queue.depth").gauges()).hasSize(4);
+    }
+
+    @Test
+    void givenFailingRequest_whenExecute_thenRethrowException() {
+        ProductLanes productLanes = new ProductLanes(true, 2, 10, new SimpleMeterRegistry());
+
+        Assertions.assertThatThrownBy(() -> productLanes.execute(1L, () -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+        productLanes.shutdown();
+    }
+
+}
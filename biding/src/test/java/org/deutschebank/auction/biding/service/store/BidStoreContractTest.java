@@ -0,0 +1,154 @@
+package org.deutschebank.auction.biding.service.store;
+
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.exception.InvalidRequestException;
+import org.deutschebank.auction.biding.model.Bid;
+import org.deutschebank.auction.biding.service.book.LeadingBid;
+import org.deutschebank.auction.biding.service.event.BidPlacedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Behaviour shared by the in-memory {@link BidStore}s, run against every implementation.
+ */
+abstract class BidStoreContractTest {
+
+    protected static final Long PRODUCT = 42L;
+
+    protected abstract BidStore newBidStore();
+
+    @Test
+    void givenBids_whenFindBidsAfterCursor_thenReturnNextPageInRankOrder() {
+        BidStore bidStore = newBidStore();
+        bidStore.append(placedBid("a", 10000, 1));
+        bidStore.append(placedBid("b", 30000, 2));
+        bidStore.append(placedBid("c", 20000, 3));
+        bidStore.append(placedBid("d", 30000, 4));
+
+        List<Bid> firstPage = bidStore.findBids(PRODUCT, null, 2);
+        List<Bid> secondPage = bidStore.findBids(PRODUCT, firstPage.get(1), 2);
+
+        Assertions.assertThat(firstPage).extracting(Bid::getBider).containsExactly("b", "d");
+        Assertions.assertThat(secondPage).extracting(Bid::getBider).containsExactly("c", "a");
+        Assertions.assertThat(bidStore.countBids(PRODUCT)).isEqualTo(4);
+    }
+
+    @Test
+    void givenBids_whenClose_thenReturnHighestEarliestBidAndLeaveOpenAuctions() {
+        BidStore bidStore = newBidStore();
+        bidStore.append(placedBid("a", 10000, 1));
+        bidStore.append(placedBid("b", 30000, 2));
+        bidStore.append(placedBid("d", 30000, 4));
+
+        LeadingBid winner = bidStore.close(PRODUCT);
+
+        Assertions.assertThat(winner.getBider()).isEqualTo("b");
+        Assertions.assertThat(winner.getBidPriceMinor()).isEqualTo(30_000L);
+        Assertions.assertThat(bidStore.getLeadingBidsOfOpenAuctions()).doesNotContainKey(PRODUCT);
+        Assertions.assertThat(bidStore.countBids(7L)).isZero();
+    }
+
+    @Test
+    void givenClosedAuction_whenAppend_thenReject() {
+        BidStore bidStore = newBidStore();
+        bidStore.append(placedBid("a", 10000, 1));
+        bidStore.close(PRODUCT);
+
+        Assertions.assertThatThrownBy(() -> bidStore.append(placedBid("b", 20000, 2)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Auction has ended");
+        Assertions.assertThat(bidStore.countBids(PRODUCT)).isEqualTo(1);
+    }
+
+    @Test
+    void givenOpenTransaction_whenBidAndCloseRollBack_thenBidIsDroppedAndAuctionStaysOpen() {
+        BidStore bidStore = newBidStore();
+        bidStore.append(placedBid("a", 10000, 1));
+
+        List<TransactionSynchronization> bidSynchronizations = inTransaction(() -> {
+            bidStore.append(placedBid("b", 20000, 2));
+            Assertions.assertThat(bidStore.countBids(PRODUCT)).isEqualTo(1);
+        });
+        rollBack(bidSynchronizations);
+        List<TransactionSynchronization> closeSynchronizations = inTransaction(() ->
+                Assertions.assertThat(bidStore.close(PRODUCT).getBider()).isEqualTo("a"));
+        rollBack(closeSynchronizations);
+
+        Assertions.assertThat(bidStore.findBids(PRODUCT, null, 10)).extracting(Bid::getBider).containsExactly("a");
+        Assertions.assertThat(bidStore.getLeadingBidsOfOpenAuctions()).containsKey(PRODUCT);
+        bidStore.append(placedBid("c", 30000, 3));
+        Assertions.assertThat(bidStore.countBids(PRODUCT)).isEqualTo(2);
+    }
+
+    @Test
+    void givenBidOfOpenTransaction_whenCloseAndBidCommits_thenWinnerIsCommittedBid() throws InterruptedException {
+        BidStore bidStore = newBidStore();
+        bidStore.append(placedBid("a", 10000, 1));
+        List<TransactionSynchronization> synchronizations = inTransaction(() -> bidStore.append(placedBid("b", 20000, 2)));
+
+        CompletableFuture<LeadingBid> close = CompletableFuture.supplyAsync(() -> bidStore.close(PRODUCT));
+        Thread.sleep(100);
+        Assertions.assertThat(close).isNotDone();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        Assertions.assertThat(close.join().getBider()).isEqualTo("b");
+    }
+
+    @Test
+    void givenBidOfOpenTransaction_whenCloseTimesOut_thenRejectCloseAndKeepAuctionOpen() {
+        BidStore bidStore = newBidStore();
+        bidStore.append(placedBid("a", 10000, 1));
+        List<TransactionSynchronization> synchronizations = inTransaction(() -> bidStore.append(placedBid("b", 20000, 2)));
+
+        Assertions.assertThatThrownBy(() -> bidStore.close(PRODUCT))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Bids are still being placed, try again");
+        rollBack(synchronizations);
+
+        Assertions.assertThat(bidStore.getLeadingBidsOfOpenAuctions().get(PRODUCT).getBider()).isEqualTo("a");
+        Assertions.assertThat(bidStore.close(PRODUCT).getBider()).isEqualTo("a");
+    }
+
+    @Test
+    void givenOpenTransaction_whenCommitted_thenBidAndCloseAreApplied() {
+        BidStore bidStore = newBidStore();
+
+        List<TransactionSynchronization> synchronizations = inTransaction(() -> {
+            bidStore.append(placedBid("a", 10000, 1));
+            bidStore.close(PRODUCT);
+        });
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        Assertions.assertThat(bidStore.countBids(PRODUCT)).isEqualTo(1);
+        Assertions.assertThat(bidStore.getLeadingBidsOfOpenAuctions()).doesNotContainKey(PRODUCT);
+    }
+
+    protected static List<TransactionSynchronization> inTransaction(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void rollBack(List<TransactionSynchronization> synchronizations) {
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+
+    protected static BidPlacedEvent placedBid(String bider, long priceMinor, long timestamp) {
+        return BidPlacedEvent.builder()
+                .productIdentifier(PRODUCT)
+                .bider(bider)
+                .bidPriceMinor(priceMinor)
+                .timestamp(new Date(timestamp))
+                .build();
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.deutschebank.auction.biding.service.store;
+
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.service.book.LeadingBid;
+import org.junit.jupiter.api.Test;
+
+public class EventSourcedBidStoreTest extends BidStoreContractTest {
+
+    @Override
+    protected BidStore newBidStore() {
+        return new EventSourcedBidStore(64);
+    }
+
+    @Test
+    void givenBidsAcrossSnapshots_whenClose_thenReturnHighestEarliestBid() {
+        EventSourcedBidStore bidStore = new EventSourcedBidStore(2);
+
+        bidStore.append(placedBid("a", 10000, 1));
+        bidStore.append(placedBid("b", 30000, 2));
+        bidStore.append(placedBid("c", 20000, 3));
+        bidStore.append(placedBid("d", 30000, 4));
+        bidStore.append(placedBid("e", 25000, 5));
+        LeadingBid winner = bidStore.close(PRODUCT);
+
+        Assertions.assertThat(winner.getBider()).isEqualTo("b");
+        Assertions.assertThat(bidStore.getLeadingBidsOfOpenAuctions()).doesNotContainKey(PRODUCT);
+    }
+
+}
@@ -0,0 +1,56 @@
+package org.deutschebank.auction.biding.service.store;
+
+import org.assertj.core.api.Assertions;
+import org.deutschebank.auction.biding.model.Bid;
+import org.deutschebank.auction.biding.service.event.BidPlacedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+public class OffHeapBidStoreTest extends BidStoreContractTest {
+
+    @Override
+    protected BidStore newBidStore() {
+        return new OffHeapBidStore(16);
+    }
+
+    @Test
+    void givenMoreBidsThanInitialCapacity_whenFindBids_thenReturnAllInRankOrder() {
+        OffHeapBidStore bidStore = new OffHeapBidStore(2);
+
+        bidStore.append(placedBid("a", 10000, 1));
+        bidStore.append(placedBid("b", 30000, 2));
+        bidStore.append(placedBid("c", 20000, 3));
+        bidStore.append(placedBid("d", 30000, 4));
+        bidStore.append(placedBid("a", 40000, 5));
+        List<Bid> firstPage = bidStore.findBids(PRODUCT, null, 3);
+        List<Bid> secondPage = bidStore.findBids(PRODUCT, firstPage.get(2), 3);
+
+        Assertions.assertThat(bidStore.countBids(PRODUCT)).isEqualTo(5);
+        Assertions.assertThat(firstPage).extracting(Bid::getBider).containsExactly("a", "b", "d");
+        Assertions.assertThat(secondPage).extracting(Bid::getBider).containsExactly("c", "a");
+        Assertions.assertThat(secondPage).extracting(Bid::getBidPriceMinor).containsExactly(20_000L, 10_000L);
+    }
+
+    @Test
+    void givenClosedAuction_whenFindBids_thenKeepOnlyWinnerAndReleaseBidersOfClosedAuctionOnly() {
+        OffHeapBidStore bidStore = new OffHeapBidStore(16);
+        bidStore.append(placedBid("a", 10000, 1));
+        bidStore.append(placedBid("b", 30000, 2));
+        bidStore.append(BidPlacedEvent.builder()
+                .productIdentifier(7L)
+                .bider("a")
+                .bidPriceMinor(5000L)
+                .timestamp(new Date(3))
+                .build());
+
+        bidStore.close(PRODUCT);
+
+        Assertions.assertThat(bidStore.findBids(PRODUCT, null, 10)).extracting(Bid::getBider).containsExactly("b");
+        Assertions.assertThat(bidStore.countBids(PRODUCT)).isEqualTo(2);
+        Assertions.assertThat(bidStore.countBiders()).isEqualTo(1);
+        Assertions.assertThat(bidStore.findBids(7L, null, 10)).extracting(Bid::getBider).containsExactly("a");
+    }
+
+}
@@ -0,0 +1,52 @@
+package org.deutschebank.auction.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and errors of one operation recorded by one worker, merged into a report after the run. Latencies are
+ * taken from the time a request was due, not from when it was sent.
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(final long nanos, final boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    void addTo(final LatencyRecorder total) {
+        for (int index = 0; index < count; index++) {
+            total.record(latencies[index], false);
+        }
+        total.errors += errors;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return the latency in microseconds at the given percentile, sorts the recorded latencies.
+     */
+    long percentileMicros(final double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        Arrays.sort(latencies, 0, count);
+        final int index = (int) Math.ceil(percentile * count) - 1;
+        return latencies[Math.max(index, 0)] / 1_000;
+    }
+
+}
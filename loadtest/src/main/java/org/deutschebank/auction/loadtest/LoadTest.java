@@ -0,0 +1,240 @@
+package org.deutschebank.auction.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.deutschebank.auction.biding.BidingApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Boots the biding service against a {@link StubUserService} and drives a mix of product listing, bidding and
+ * auction close at a fixed {@code rate} from {@code concurrency} workers, then reports throughput and latency
+ * percentiles per operation. Requests are paced by a schedule rather than sent when the previous one returns, and
+ * latency is measured from the time a request was due, so a stalled service is charged for the requests that had to
+ * wait and not only for the one that stalled.
+ * Run with {@code ./gradlew :loadtest:run --args="--duration-seconds=60 --rate=1000 --concurrency=32"}.
+ */
+public class LoadTest {
+
+    private static final String[] OPERATIONS = {"list", "bid", "close", "create"};
+
+    private final LoadTestSettings settings;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicReferenceArray<OpenProduct> products;
+    private String baseUrl;
+
+    public LoadTest(final LoadTestSettings settings) {
+        this.settings = settings;
+        this.products = new AtomicReferenceArray<>(settings.getProducts());
+    }
+
+    public static void main(final String[] args) throws Exception {
+        new LoadTest(LoadTestSettings.parse(args)).run();
+    }
+
+    public void run() throws Exception {
+        try (StubUserService stub = new StubUserService(settings.getStubLatencyMillis(), settings.getStubErrorRate());
+             ConfigurableApplicationContext biding = new SpringApplicationBuilder(BidingApplication.class)
+                     .properties("server.port=0",
+                             "user-service.url=" + stub.getUrl(),
+                             "logging.level.root=WARN",
+                             "logging.level.org.deutschebank=ERROR")
+                     .run()) {
+            baseUrl = "http://localhost:" + biding.getEnvironment().getProperty("local.server.port");
+            for (int slot = 0; slot < settings.getProducts(); slot++) {
+                products.set(slot, createProduct());
+            }
+            System.out.printf("Seeded %d products, warming up for %ds, measuring for %ds at %d req/s with %d workers%n",
+                    settings.getProducts(), settings.getWarmupSeconds(), settings.getDurationSeconds(),
+                    settings.getRate(), settings.getConcurrency());
+            report(drive());
+        }
+    }
+
+    private List<Map<String, LatencyRecorder>> drive() throws InterruptedException {
+        final long measureFrom = System.nanoTime() + Duration.ofSeconds(settings.getWarmupSeconds()).toNanos();
+        final long measureUntil = measureFrom + Duration.ofSeconds(settings.getDurationSeconds()).toNanos();
+        final List<Map<String, LatencyRecorder>> recorders = new ArrayList<>();
+        final List<Thread> workers = new ArrayList<>();
+        final long intervalNanos = Duration.ofSeconds(settings.getConcurrency()).toNanos() / settings.getRate();
+        final long start = System.nanoTime();
+        for (int worker = 0; worker < settings.getConcurrency(); worker++) {
+            final Map<String, LatencyRecorder> workerRecorders = newRecorders();
+            recorders.add(workerRecorders);
+            // workers are offset within one interval so the requests are spread evenly over time
+            final long firstStart = start + intervalNanos * worker / settings.getConcurrency();
+            final Thread thread = new Thread(() -> work(workerRecorders, firstStart, intervalNanos, measureFrom,
+                    measureUntil), "load-worker-" + worker);
+            workers.add(thread);
+            thread.start();
+        }
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+        return recorders;
+    }
+
+    /**
+     * Sends one request every {@code intervalNanos}, starting at {@code firstStart}. A worker that falls behind
+     * sends the overdue requests back to back, each one still timed from when it was due.
+     */
+    private void work(final Map<String, LatencyRecorder> recorders, final long firstStart, final long intervalNanos,
+                      final long measureFrom, final long measureUntil) {
+        final int totalWeight = settings.getListWeight() + settings.getBidWeight() + settings.getCloseWeight();
+        for (long due = firstStart; due < measureUntil; due += intervalNanos) {
+            waitUntil(due);
+            final boolean measured = due >= measureFrom;
+            final int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+            if (pick < settings.getListWeight()) {
+                timed(recorders, measured, due, "list", () -> send(get("/products?allow_inactive=false&limit=50")));
+            } else if (pick < settings.getListWeight() + settings.getBidWeight()) {
+                bid(recorders, measured, due);
+            } else {
+                close(recorders, measured, due);
+            }
+        }
+    }
+
+    private static void waitUntil(final long due) {
+        long remaining;
+        while ((remaining = due - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private void bid(final Map<String, LatencyRecorder> recorders, final boolean measured, final long due) {
+        final OpenProduct product = products.get(ThreadLocalRandom.current().nextInt(products.length()));
+        if (product == null) {
+            return;
+        }
+        final long priceMinor = product.getPriceMinor().addAndGet(ThreadLocalRandom.current().nextLong(100, 1_000));
+        timed(recorders, measured, due, "bid", () -> send(post("/product/" + product.getId() + "/bid",
+                UUID.randomUUID().toString(), "{\"priceMinor\":" + priceMinor + "}")));
+    }
+
+    private void close(final Map<String, LatencyRecorder> recorders, final boolean measured, final long due) {
+        final int slot = ThreadLocalRandom.current().nextInt(products.length());
+        final OpenProduct product = products.get(slot);
+        if (product == null || !products.compareAndSet(slot, product, null)) {
+            return;
+        }
+        timed(recorders, measured, due, "close", () -> send(post("/product/" + product.getId() + "/sold",
+                product.getAuthor(), "")));
+        final long start = System.nanoTime();
+        OpenProduct replacement = null;
+        try {
+            replacement = createProduct();
+        } catch (final Exception e) {
+            // the slot stays empty, bids and closes skip it
+        }
+        if (measured) {
+            recorders.get("create").record(System.nanoTime() - start, replacement == null);
+        }
+        products.set(slot, replacement);
+    }
+
+    private OpenProduct createProduct() throws IOException, InterruptedException {
+        final String author = UUID.randomUUID().toString();
+        final HttpResponse<String> response = httpClient.send(post("/product", author,
+                "{\"name\":\"load product\",\"description\":\"load test\",\"startPriceMinor\":10000,\"active\":true}"),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Product not created, status: " + response.statusCode());
+        }
+        final long id = mapper.readTree(response.body()).get("id").asLong();
+        return new OpenProduct(id, author, new AtomicLong(10_000));
+    }
+
+    private void timed(final Map<String, LatencyRecorder> recorders, final boolean measured, final long due,
+                       final String operation, final Call call) {
+        boolean error;
+        try {
+            error = call.status() >= 400;
+        } catch (final Exception e) {
+            error = true;
+        }
+        if (measured) {
+            recorders.get(operation).record(System.nanoTime() - due, error);
+        }
+    }
+
+    private int send(final HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest get(final String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest post(final String path, final String userToken, final String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("X-User-Token", userToken)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void report(final List<Map<String, LatencyRecorder>> recorders) {
+        final Map<String, LatencyRecorder> totals = newRecorders();
+        final LatencyRecorder all = new LatencyRecorder();
+        for (final Map<String, LatencyRecorder> workerRecorders : recorders) {
+            workerRecorders.forEach((operation, recorder) -> {
+                recorder.addTo(totals.get(operation));
+                recorder.addTo(all);
+            });
+        }
+        totals.put("all", all);
+        System.out.printf("%-8s %10s %10s %8s %10s %10s %10s %10s%n",
+                "op", "count", "ops/s", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        totals.forEach((operation, recorder) -> System.out.printf("%-8s %10d %10.1f %8d %10.3f %10.3f %10.3f %10.3f%n",
+                operation, recorder.getCount(), (double) recorder.getCount() / settings.getDurationSeconds(),
+                recorder.getErrors(), recorder.percentileMicros(0.50) / 1_000.0,
+                recorder.percentileMicros(0.99) / 1_000.0, recorder.percentileMicros(0.999) / 1_000.0,
+                recorder.percentileMicros(1.0) / 1_000.0));
+    }
+
+    private static Map<String, LatencyRecorder> newRecorders() {
+        final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        for (final String operation : OPERATIONS) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        return recorders;
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        int status() throws IOException, InterruptedException;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class OpenProduct {
+
+        private final long id;
+        private final String author;
+        private final AtomicLong priceMinor;
+
+    }
+
+}
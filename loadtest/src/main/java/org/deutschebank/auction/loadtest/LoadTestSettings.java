@@ -0,0 +1,49 @@
+package org.deutschebank.auction.loadtest;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, given as {@code --name=value} program arguments.
+ */
+@Value
+@Builder
+public class LoadTestSettings {
+
+    int durationSeconds;
+    int warmupSeconds;
+    int rate;
+    int concurrency;
+    int products;
+    long stubLatencyMillis;
+    double stubErrorRate;
+    int listWeight;
+    int bidWeight;
+    int closeWeight;
+
+    public static LoadTestSettings parse(final String[] args) {
+        final Map<String, String> values = new HashMap<>();
+        for (final String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return LoadTestSettings.builder()
+                .durationSeconds(Integer.parseInt(values.getOrDefault("duration-seconds", "60")))
+                .warmupSeconds(Integer.parseInt(values.getOrDefault("warmup-seconds", "10")))
+                .rate(Integer.parseInt(values.getOrDefault("rate", "1000")))
+                .concurrency(Integer.parseInt(values.getOrDefault("concurrency", "32")))
+                .products(Integer.parseInt(values.getOrDefault("products", "200")))
+                .stubLatencyMillis(Long.parseLong(values.getOrDefault("stub-latency-ms", "5")))
+                .stubErrorRate(Double.parseDouble(values.getOrDefault("stub-error-rate", "0.0")))
+                .listWeight(Integer.parseInt(values.getOrDefault("list-weight", "30")))
+                .bidWeight(Integer.parseInt(values.getOrDefault("bid-weight", "65")))
+                .closeWeight(Integer.parseInt(values.getOrDefault("close-weight", "5")))
+                .build();
+    }
+
+}
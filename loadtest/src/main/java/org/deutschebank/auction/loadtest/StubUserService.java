@@ -0,0 +1,98 @@
+package org.deutschebank.auction.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-process stand-in for the users service answering {@code GET /user/{token}} and {@code POST /users/lookup}
+ * for every token after {@code latencyMillis}, failing a {@code errorRate} share of the calls with a 500.
+ */
+public class StubUserService implements AutoCloseable {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final long latencyMillis;
+    private final double errorRate;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    public StubUserService(final long latencyMillis, final double errorRate) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        this.server.createContext("/user/", this::getUser);
+        this.server.createContext("/users/lookup", this::lookupUsers);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void getUser(final HttpExchange exchange) throws IOException {
+        if (delayOrFail(exchange)) {
+            return;
+        }
+        final String token = exchange.getRequestURI().getPath().substring("/user/".length());
+        respond(exchange, 200, mapper.writeValueAsBytes(user(token)));
+    }
+
+    private void lookupUsers(final HttpExchange exchange) throws IOException {
+        if (delayOrFail(exchange)) {
+            return;
+        }
+        final JsonNode request = mapper.readTree(exchange.getRequestBody());
+        final ObjectNode response = mapper.createObjectNode();
+        final ArrayNode users = response.putArray("users");
+        request.path("userTokens").forEach(token -> users.add(user(token.asText())));
+        respond(exchange, 200, mapper.writeValueAsBytes(response));
+    }
+
+    private boolean delayOrFail(final HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+            respond(exchange, 500, "{\"error\":\"stubbed failure\"}".getBytes(StandardCharsets.UTF_8));
+            return true;
+        }
+        return false;
+    }
+
+    private ObjectNode user(final String token) {
+        final ObjectNode user = mapper.createObjectNode();
+        user.put("userToken", token);
+        user.put("firstName", "load");
+        user.put("lastName", "test");
+        return user;
+    }
+
+    private void respond(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+}
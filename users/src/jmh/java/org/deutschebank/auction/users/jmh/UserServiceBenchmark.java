@@ -0,0 +1,95 @@
+package org.deutschebank.auction.users.jmh;
+
+import org.deutschebank.auction.users.UsersApplication;
+import org.deutschebank.auction.users.model.User;
+import org.deutschebank.auction.users.model.Users;
+import org.deutschebank.auction.users.model.request.LookupUsersRequest;
+import org.deutschebank.auction.users.model.request.SearchUserRequest;
+import org.deutschebank.auction.users.repository.UserRepository;
+import org.deutschebank.auction.users.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code UserService} reads (finder plus {@code mapToModel}) against the bare repository finders on the embedded
+ * H2 database of {@code PersistentContext}, with {@value #USERS} users. Run with {@code ./gradlew :users:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserServiceBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int LOOKUP_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserRepository userRepository;
+    private String userToken;
+    private LookupUsersRequest lookupUsersRequest;
+    private SearchUserRequest searchUserRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(UsersApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN", "logging.level.org.deutschebank=WARN")
+                .run();
+        userService = context.getBean(UserService.class);
+        userRepository = context.getBean(UserRepository.class);
+        final List<String> userTokens = new ArrayList<>(USERS);
+        for (int user = 0; user < USERS; user++) {
+            userTokens.add(userService.addUser(User.builder()
+                    .firstName("jmh")
+                    .lastName("user " + user)
+                    .phoneNumber(String.valueOf(1_000_000_000L + user))
+                    .email("jmh" + user + "@example.com")
+                    .street("street")
+                    .houseNumber("1")
+                    .city("city")
+                    .pincode(10000L)
+                    .country("country")
+                    .build()).getUserToken());
+        }
+        userToken = userTokens.get(USERS / 2);
+        lookupUsersRequest = LookupUsersRequest.builder().userTokens(userTokens.subList(0, LOOKUP_SIZE)).build();
+        searchUserRequest = SearchUserRequest.builder().email("jmh" + USERS / 2 + "@example.com").build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User getUser() throws Exception {
+        return userService.getUser(userToken);
+    }
+
+    @Benchmark
+    public org.deutschebank.auction.users.repository.record.User findByToken() {
+        return userRepository.findByToken(userToken);
+    }
+
+    @Benchmark
+    public Users lookupUsers() {
+        return userService.lookupUsers(lookupUsersRequest);
+    }
+
+    @Benchmark
+    public User searchUser() throws Exception {
+        return userService.searchUser(searchUserRequest);
+    }
+
+}
@@ -0,0 +1,23 @@
+package org.deutschebank.auction.users.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Boot ignores {@code spring.threads.virtual.enabled} below Java 21, so the startup fails instead of silently
+ * running on platform threads when it is set on an older runtime.
+ */
+@Configuration
+public class VirtualThreadsConfig {
+
+    static final int MIN_JAVA_VERSION = 21;
+
+    public VirtualThreadsConfig(@Value("${spring.threads.virtual.enabled}") final boolean virtualThreads) {
+        final int javaVersion = Runtime.version().feature();
+        if (virtualThreads && javaVersion < MIN_JAVA_VERSION) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true requires a Java " + MIN_JAVA_VERSION
+                    + " runtime, running on Java " + javaVersion);
+        }
+    }
+
+}
@@ -2,6 +2,8 @@ package org.deutschebank.auction.users.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.deutschebank.auction.users.model.User;
+import org.deutschebank.auction.users.model.Users;
+import org.deutschebank.auction.users.model.request.LookupUsersRequest;
 import org.deutschebank.auction.users.model.request.SearchUserRequest;
 import org.deutschebank.auction.users.service.UserService;
 import org.springframework.web.bind.annotation.*;
@@ -27,4 +29,9 @@ public class UserController {
         return userService.searchUser(searchUserRequest);
     }
 
+    @PostMapping("/users/lookup")
+    public Users lookupUsers(@RequestBody LookupUsersRequest lookupUsersRequest) {
+        return userService.lookupUsers(lookupUsersRequest);
+    }
+
 }
@@ -0,0 +1,14 @@
+package org.deutschebank.auction.users.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class Users {
+
+    List<User> users;
+
+}
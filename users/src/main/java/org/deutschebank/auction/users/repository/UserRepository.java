@@ -4,6 +4,9 @@ import org.deutschebank.auction.users.repository.record.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -15,4 +18,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     User findByToken(String token);
 
+    List<User> findByTokenIn(Collection<String> tokens);
+
 }
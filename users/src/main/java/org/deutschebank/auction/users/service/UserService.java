@@ -1,26 +1,47 @@
 package org.deutschebank.auction.users.service;
 
 import io.micrometer.common.util.StringUtils;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.log4j.Log4j2;
 import org.deutschebank.auction.users.exception.BusinessException;
 import org.deutschebank.auction.users.exception.InvalidRequestException;
 import org.deutschebank.auction.users.exception.ResourceNotFoundException;
 import org.deutschebank.auction.users.model.User;
+import org.deutschebank.auction.users.model.Users;
+import org.deutschebank.auction.users.model.request.LookupUsersRequest;
 import org.deutschebank.auction.users.model.request.SearchUserRequest;
 import org.deutschebank.auction.users.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
-@RequiredArgsConstructor
 @Log4j2
 @Transactional(readOnly = true)
 public class UserService {
 
     private final UserRepository userRepository;
 
+    private final Timer getUserTimer;
+    private final Timer addUserTimer;
+    private final Timer searchUserTimer;
+    private final Timer lookupUsersTimer;
+
+    public UserService(final UserRepository userRepository, final MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.getUserTimer = operationTimer(meterRegistry, "getUser");
+        this.addUserTimer = operationTimer(meterRegistry, "addUser");
+        this.searchUserTimer = operationTimer(meterRegistry, "searchUser");
+        this.lookupUsersTimer = operationTimer(meterRegistry, "lookupUsers");
+    }
+
     public User getUser(final String userToken) throws Exception {
+        return getUserTimer.recordCallable(() -> findUser(userToken));
+    }
+
+    private User findUser(final String userToken) {
         final org.deutschebank.auction.users.repository.record.User userRecord = userRepository.findByToken(userToken);
         if (userRecord == null) {
             log.warn("User not found for the given token: {}", userToken);
@@ -30,8 +51,27 @@ public class UserService {
         return mapToModel(userRecord);
     }
 
+    public Users lookupUsers(final LookupUsersRequest lookupUsersRequest) {
+        return lookupUsersTimer.record(() -> findUsers(lookupUsersRequest));
+    }
+
+    private Users findUsers(final LookupUsersRequest lookupUsersRequest) {
+        if (lookupUsersRequest.getUserTokens() == null || lookupUsersRequest.getUserTokens().isEmpty()) {
+            return Users.builder().users(List.of()).build();
+        }
+        final List<User> users = userRepository.findByTokenIn(lookupUsersRequest.getUserTokens()).stream()
+                .map(this::mapToModel)
+                .toList();
+        log.info("{} of {} requested users found", users.size(), lookupUsersRequest.getUserTokens().size());
+        return Users.builder().users(users).build();
+    }
+
     @Transactional
     public User addUser(final User user) throws Exception {
+        return addUserTimer.recordCallable(() -> createUser(user));
+    }
+
+    private User createUser(final User user) {
         checkForExistingUser(user);
         final org.deutschebank.auction.users.repository.record.User userRecord = mapToRecord(user);
         try {
@@ -45,6 +85,10 @@ public class UserService {
     }
 
     public User searchUser(final SearchUserRequest searchUserRequest) throws Exception {
+        return searchUserTimer.recordCallable(() -> findUser(searchUserRequest));
+    }
+
+    private User findUser(final SearchUserRequest searchUserRequest) {
         org.deutschebank.auction.users.repository.record.User userRecord = null;
         if (StringUtils.isNotBlank(searchUserRequest.getEmail()) &&
                 StringUtils.isNotBlank(searchUserRequest.getPhoneNumber())) {
@@ -63,6 +107,14 @@ public class UserService {
         return mapToModel(userRecord);
     }
 
+    private static Timer operationTimer(final MeterRegistry meterRegistry, final String operation) {
+        return Timer.builder("users.operation")
+                .description("Time spent per user service operation")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     private void checkForExistingUser(final User user) {
         final org.deutschebank.auction.users.repository.record.User existingUserByPhone =
                 userRepository.findByPhoneNumber(user.getPhoneNumber());
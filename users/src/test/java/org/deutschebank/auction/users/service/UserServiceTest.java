@@ -3,6 +3,8 @@ package org.deutschebank.auction.users.service;
 import org.assertj.core.api.Assertions;
 import org.deutschebank.auction.users.exception.InvalidRequestException;
 import org.deutschebank.auction.users.exception.ResourceNotFoundException;
+import org.deutschebank.auction.users.model.Users;
+import org.deutschebank.auction.users.model.request.LookupUsersRequest;
 import org.deutschebank.auction.users.model.request.SearchUserRequest;
 import org.deutschebank.auction.users.repository.UserRepository;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -111,6 +114,19 @@ public class UserServiceTest {
                 .build()));
     }
 
+    @Test
+    @Sql(scripts = "/sql/delete-user.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void givenKnownAndUnknownTokens_whenLookupUsers_thenReturnKnownUsers() throws Exception {
+        org.deutschebank.auction.users.model.User addUserResponse = userService.addUser(getUserModel());
+
+        Users response = userService.lookupUsers(LookupUsersRequest.builder()
+                .userTokens(List.of(addUserResponse.getUserToken(), UUID.randomUUID().toString()))
+                .build());
+
+        Assertions.assertThat(response.getUsers()).hasSize(1);
+        Assertions.assertThat(response.getUsers().get(0).getUserToken()).isEqualTo(addUserResponse.getUserToken());
+    }
+
     private org.deutschebank.auction.users.model.User getUserModel() {
         return org.deutschebank.auction.users.model.User.builder()
                 .userToken(UUID.randomUUID().toString())